@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.agent.metrics.api;
 
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
+import org.apache.shardingsphere.agent.metrics.api.handle.GaugeHandle;
+import org.apache.shardingsphere.agent.metrics.api.handle.HistogramHandle;
+
 /**
  * Metrics register.
  */
@@ -90,4 +94,48 @@ public interface MetricsRegister {
      * @param duration duration
      */
     void recordTime(String name, String[] labelValues, long duration);
+    
+    /**
+     * Get counter handle, which resolves counter and its label values once.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @return counter handle
+     */
+    default CounterHandle getCounter(final String name, final String[] labelValues) {
+        return count -> counterIncrement(name, labelValues, count);
+    }
+    
+    /**
+     * Get gauge handle, which resolves gauge and its label values once.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @return gauge handle
+     */
+    default GaugeHandle getGauge(final String name, final String[] labelValues) {
+        return new GaugeHandle() {
+            
+            @Override
+            public void inc() {
+                gaugeIncrement(name, labelValues);
+            }
+            
+            @Override
+            public void dec() {
+                gaugeDecrement(name, labelValues);
+            }
+        };
+    }
+    
+    /**
+     * Get histogram handle, which resolves histogram and its label values once.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @return histogram handle
+     */
+    default HistogramHandle getHistogram(final String name, final String[] labelValues) {
+        return value -> recordTime(name, labelValues, value);
+    }
 }
@@ -21,6 +21,8 @@ import java.lang.reflect.Method;
 import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
 import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
 import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
+import org.apache.shardingsphere.agent.metrics.api.handle.GaugeHandle;
 import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
 import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
 
@@ -33,9 +35,15 @@ public final class ChannelHandlerAdvice implements InstanceMethodAroundAdvice {
     
     private static final String COLLECTION_TOTAL = "proxy_connection_total";
     
+    private static final CounterHandle REQUEST_TOTAL_COUNTER;
+    
+    private static final GaugeHandle COLLECTION_TOTAL_GAUGE;
+    
     static {
         MetricsReporter.registerCounter(REQUEST_TOTAL, "the shardingsphere proxy request total");
         MetricsReporter.registerGauge(COLLECTION_TOTAL, "the shardingsphere proxy connection total");
+        REQUEST_TOTAL_COUNTER = MetricsReporter.getCounter(REQUEST_TOTAL);
+        COLLECTION_TOTAL_GAUGE = MetricsReporter.getGauge(COLLECTION_TOTAL);
     }
     
     @Override
@@ -45,11 +53,11 @@ public final class ChannelHandlerAdvice implements InstanceMethodAroundAdvice {
     
     private void collectMetrics(final String methodName) {
         if (MethodNameConstant.CHANNEL_READ.equals(methodName)) {
-            MetricsReporter.counterIncrement(REQUEST_TOTAL);
+            REQUEST_TOTAL_COUNTER.inc();
         } else if (MethodNameConstant.CHANNEL_ACTIVE.equals(methodName)) {
-            MetricsReporter.gaugeIncrement(COLLECTION_TOTAL);
+            COLLECTION_TOTAL_GAUGE.inc();
         } else if (MethodNameConstant.CHANNEL_INACTIVE.equals(methodName)) {
-            MetricsReporter.gaugeDecrement(COLLECTION_TOTAL);
+            COLLECTION_TOTAL_GAUGE.dec();
         }
     }
 }
@@ -21,6 +21,7 @@ import java.lang.reflect.Method;
 import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
 import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
 import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.metrics.api.handle.HistogramHandle;
 import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
 import org.apache.shardingsphere.agent.metrics.api.threadlocal.ElapsedTimeThreadLocal;
 
@@ -31,8 +32,11 @@ public final class CommandExecutorTaskAdvice implements InstanceMethodAroundAdvi
     
     private static final String METRICS_NAME = "proxy_execute_latency_millis";
     
+    private static final HistogramHandle LATENCY_HISTOGRAM;
+    
     static {
         MetricsReporter.registerHistogram(METRICS_NAME, "the shardingsphere proxy executor latency millis");
+        LATENCY_HISTOGRAM = MetricsReporter.getHistogram(METRICS_NAME);
     }
     
     @Override
@@ -44,7 +48,7 @@ public final class CommandExecutorTaskAdvice implements InstanceMethodAroundAdvi
     public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
         try {
             long elapsedTime = System.currentTimeMillis() - ElapsedTimeThreadLocal.INSTANCE.get();
-            MetricsReporter.recordTime(METRICS_NAME, elapsedTime);
+            LATENCY_HISTOGRAM.observe(elapsedTime);
         } finally {
             ElapsedTimeThreadLocal.INSTANCE.remove();
         }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+
+/**
+ * Executor metrics advice.
+ * 
+ * <p>Queue depth of executor equals submitted total minus started total.</p>
+ */
+public final class ExecutorMetricsAdvice implements InstanceMethodAroundAdvice {
+    
+    private static final String TASK_SUBMITTED = "executor_task_submitted_total";
+    
+    private static final String TASK_STARTED = "executor_task_started_total";
+    
+    private static final String TASK_COMPLETED = "executor_task_completed_total";
+    
+    private static final String TASK_WAIT_MILLIS = "executor_task_wait_millis_total";
+    
+    private static final CounterHandle TASK_SUBMITTED_COUNTER;
+    
+    private static final CounterHandle TASK_STARTED_COUNTER;
+    
+    private static final CounterHandle TASK_COMPLETED_COUNTER;
+    
+    private static final CounterHandle TASK_WAIT_MILLIS_COUNTER;
+    
+    static {
+        MetricsReporter.registerCounter(TASK_SUBMITTED, "the shardingsphere executor task submitted total");
+        MetricsReporter.registerCounter(TASK_STARTED, "the shardingsphere executor task started total");
+        MetricsReporter.registerCounter(TASK_COMPLETED, "the shardingsphere executor task completed total");
+        MetricsReporter.registerCounter(TASK_WAIT_MILLIS, "the shardingsphere executor task waited in queue millis total");
+        TASK_SUBMITTED_COUNTER = MetricsReporter.getCounter(TASK_SUBMITTED);
+        TASK_STARTED_COUNTER = MetricsReporter.getCounter(TASK_STARTED);
+        TASK_COMPLETED_COUNTER = MetricsReporter.getCounter(TASK_COMPLETED);
+        TASK_WAIT_MILLIS_COUNTER = MetricsReporter.getCounter(TASK_WAIT_MILLIS);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        String methodName = method.getName();
+        if (MethodNameConstant.EXECUTOR_TASK_SUBMIT.equals(methodName)) {
+            TASK_SUBMITTED_COUNTER.inc();
+        } else if (MethodNameConstant.EXECUTOR_TASK_START.equals(methodName)) {
+            TASK_STARTED_COUNTER.inc();
+            if (args.length > 0 && args[0] instanceof Long) {
+                TASK_WAIT_MILLIS_COUNTER.inc(TimeUnit.NANOSECONDS.toMillis((Long) args[0]));
+            }
+        } else if (MethodNameConstant.EXECUTOR_TASK_COMPLETE.equals(methodName)) {
+            TASK_COMPLETED_COUNTER.inc();
+        }
+    }
+}
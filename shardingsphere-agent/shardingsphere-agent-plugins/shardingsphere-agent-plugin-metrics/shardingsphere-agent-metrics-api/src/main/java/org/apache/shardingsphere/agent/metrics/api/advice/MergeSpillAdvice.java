@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+
+/**
+ * Merge spill advice.
+ */
+public final class MergeSpillAdvice implements InstanceMethodAroundAdvice {
+    
+    private static final String SPILL_BYTES = "sql_merge_spill_bytes_total";
+    
+    private static final String SPILL_MILLIS = "sql_merge_spill_millis_total";
+    
+    private static final ThreadLocal<Long> START_TIME = new ThreadLocal<>();
+    
+    private static final CounterHandle SPILL_BYTES_COUNTER;
+    
+    private static final CounterHandle SPILL_MILLIS_COUNTER;
+    
+    static {
+        MetricsReporter.registerCounter(SPILL_BYTES, "the shardingsphere merged rows spilled into disk bytes total");
+        MetricsReporter.registerCounter(SPILL_MILLIS, "the shardingsphere merged rows spilled into disk millis total");
+        SPILL_BYTES_COUNTER = MetricsReporter.getCounter(SPILL_BYTES);
+        SPILL_MILLIS_COUNTER = MetricsReporter.getCounter(SPILL_MILLIS);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        START_TIME.set(System.currentTimeMillis());
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        try {
+            SPILL_MILLIS_COUNTER.inc(System.currentTimeMillis() - START_TIME.get());
+            if (result.getResult() instanceof Long) {
+                SPILL_BYTES_COUNTER.inc((Long) result.getResult());
+            }
+        } finally {
+            START_TIME.remove();
+        }
+    }
+}
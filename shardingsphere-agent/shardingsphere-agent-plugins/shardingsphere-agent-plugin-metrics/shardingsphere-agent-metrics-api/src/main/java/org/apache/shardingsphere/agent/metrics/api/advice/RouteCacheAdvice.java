@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+
+/**
+ * Route cache advice.
+ */
+public final class RouteCacheAdvice implements InstanceMethodAroundAdvice {
+    
+    private static final String ROUTE_CACHE_HIT = "route_cache_hit_total";
+    
+    private static final String ROUTE_CACHE_MISS = "route_cache_miss_total";
+    
+    private static final CounterHandle ROUTE_CACHE_HIT_COUNTER;
+    
+    private static final CounterHandle ROUTE_CACHE_MISS_COUNTER;
+    
+    static {
+        MetricsReporter.registerCounter(ROUTE_CACHE_HIT, "the shardingsphere route cache hit total");
+        MetricsReporter.registerCounter(ROUTE_CACHE_MISS, "the shardingsphere route cache miss total");
+        ROUTE_CACHE_HIT_COUNTER = MetricsReporter.getCounter(ROUTE_CACHE_HIT);
+        ROUTE_CACHE_MISS_COUNTER = MetricsReporter.getCounter(ROUTE_CACHE_MISS);
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (result.getResult() instanceof Optional && ((Optional<?>) result.getResult()).isPresent()) {
+            ROUTE_CACHE_HIT_COUNTER.inc();
+        } else {
+            ROUTE_CACHE_MISS_COUNTER.inc();
+        }
+    }
+}
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.agent.metrics.api.advice;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
 import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
 import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
 import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -50,6 +53,18 @@ public final class SQLRouteEngineAdvice implements InstanceMethodAroundAdvice {
     
     private static final String ROUTE_TABLE = "route_table";
     
+    private static final Map<String, CounterHandle> ROUTE_DATASOURCE_COUNTERS = new ConcurrentHashMap<>();
+    
+    private static final Map<String, CounterHandle> ROUTE_TABLE_COUNTERS = new ConcurrentHashMap<>();
+    
+    private static final CounterHandle SELECT_COUNTER;
+    
+    private static final CounterHandle UPDATE_COUNTER;
+    
+    private static final CounterHandle DELETE_COUNTER;
+    
+    private static final CounterHandle INSERT_COUNTER;
+    
     static {
         MetricsReporter.registerCounter(SELECT, "the shardingsphere proxy executor select sql total");
         MetricsReporter.registerCounter(UPDATE, "the shardingsphere proxy executor update sql total");
@@ -57,6 +72,10 @@ public final class SQLRouteEngineAdvice implements InstanceMethodAroundAdvice {
         MetricsReporter.registerCounter(INSERT, "the shardingsphere proxy executor insert sql total");
         MetricsReporter.registerCounter(ROUTE_DATASOURCE, new String[] {"name"}, "the shardingsphere proxy route datasource");
         MetricsReporter.registerCounter(ROUTE_TABLE, new String[] {"name"}, "the shardingsphere proxy route table");
+        SELECT_COUNTER = MetricsReporter.getCounter(SELECT);
+        UPDATE_COUNTER = MetricsReporter.getCounter(UPDATE);
+        DELETE_COUNTER = MetricsReporter.getCounter(DELETE);
+        INSERT_COUNTER = MetricsReporter.getCounter(INSERT);
     }
     
     @Override
@@ -64,13 +83,13 @@ public final class SQLRouteEngineAdvice implements InstanceMethodAroundAdvice {
         LogicSQL logicSQL = (LogicSQL) args[0];
         SQLStatement sqlStatement = logicSQL.getSqlStatementContext().getSqlStatement();
         if (sqlStatement instanceof InsertStatement) {
-            MetricsReporter.counterIncrement(INSERT);
+            INSERT_COUNTER.inc();
         } else if (sqlStatement instanceof DeleteStatement) {
-            MetricsReporter.counterIncrement(DELETE);
+            DELETE_COUNTER.inc();
         } else if (sqlStatement instanceof UpdateStatement) {
-            MetricsReporter.counterIncrement(UPDATE);
+            UPDATE_COUNTER.inc();
         } else if (sqlStatement instanceof SelectStatement) {
-            MetricsReporter.counterIncrement(SELECT);
+            SELECT_COUNTER.inc();
         }
     }
 
@@ -79,11 +98,17 @@ public final class SQLRouteEngineAdvice implements InstanceMethodAroundAdvice {
         RouteContext routeContext = (RouteContext) result.getResult();
         if (null != routeContext) {
             Collection<RouteUnit> routeUnits = routeContext.getRouteUnits();
-            routeUnits.forEach(each -> {
-                RouteMapper dataSourceMapper = each.getDataSourceMapper();
-                MetricsReporter.counterIncrement(ROUTE_DATASOURCE, new String[]{dataSourceMapper.getActualName()});
-                each.getTableMappers().forEach(table -> MetricsReporter.counterIncrement(ROUTE_TABLE, new String[]{table.getActualName()}));
-            });
+            for (RouteUnit each : routeUnits) {
+                getCounter(ROUTE_DATASOURCE_COUNTERS, ROUTE_DATASOURCE, each.getDataSourceMapper().getActualName()).inc();
+                for (RouteMapper table : each.getTableMappers()) {
+                    getCounter(ROUTE_TABLE_COUNTERS, ROUTE_TABLE, table.getActualName()).inc();
+                }
+            }
         }
     }
+    
+    private CounterHandle getCounter(final Map<String, CounterHandle> counters, final String name, final String labelValue) {
+        CounterHandle result = counters.get(labelValue);
+        return null != result ? result : counters.computeIfAbsent(labelValue, key -> MetricsReporter.getCounter(name, new String[]{key}));
+    }
 }
@@ -21,6 +21,7 @@ import java.lang.reflect.Method;
 import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
 import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
 import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
 import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
 import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
 
@@ -33,18 +34,24 @@ public final class TransactionAdvice implements InstanceMethodAroundAdvice {
     
     private static final String ROLLBACK = "proxy_transaction_rollback_total";
     
+    private static final CounterHandle COMMIT_COUNTER;
+    
+    private static final CounterHandle ROLLBACK_COUNTER;
+    
     static {
         MetricsReporter.registerCounter(COMMIT, "the shardingsphere proxy transaction commit count total");
         MetricsReporter.registerCounter(ROLLBACK, "the shardingsphere proxy transaction rollback count total");
+        COMMIT_COUNTER = MetricsReporter.getCounter(COMMIT);
+        ROLLBACK_COUNTER = MetricsReporter.getCounter(ROLLBACK);
     }
     
     @Override
     public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
         String methodName = method.getName();
         if (MethodNameConstant.COMMIT.equals(methodName)) {
-            MetricsReporter.counterIncrement(COMMIT);
+            COMMIT_COUNTER.inc();
         } else if (MethodNameConstant.ROLL_BACK.equals(methodName)) {
-            MetricsReporter.counterIncrement(ROLLBACK);
+            ROLLBACK_COUNTER.inc();
         }
     }
 }
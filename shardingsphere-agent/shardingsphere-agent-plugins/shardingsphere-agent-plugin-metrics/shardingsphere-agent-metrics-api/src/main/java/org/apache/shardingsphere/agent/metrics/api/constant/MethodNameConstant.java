@@ -41,4 +41,14 @@ public final class MethodNameConstant {
     public static final String ROLL_BACK = "rollback";
 
     public static final String DECORATE = "decorate";
+    
+    public static final String SPILL_APPEND = "append";
+    
+    public static final String EXECUTOR_TASK_SUBMIT = "onSubmit";
+    
+    public static final String EXECUTOR_TASK_START = "onStart";
+    
+    public static final String EXECUTOR_TASK_COMPLETE = "onComplete";
+    
+    public static final String ROUTE_CACHE_GET = "get";
 }
@@ -46,6 +46,18 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
     
     private static final String DATASOURCE_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.DataSourceAdvice";
     
+    private static final String MERGE_SPILL_ENHANCE_CLASS = "org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFile";
+    
+    private static final String MERGE_SPILL_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.MergeSpillAdvice";
+    
+    private static final String EXECUTOR_METRICS_ENHANCE_CLASS = "org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorMetrics";
+    
+    private static final String EXECUTOR_METRICS_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.ExecutorMetricsAdvice";
+    
+    private static final String ROUTE_CACHE_ENHANCE_CLASS = "org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCache";
+    
+    private static final String ROUTE_CACHE_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.RouteCacheAdvice";
+    
     @Override
     public void defineInterceptors() {
         defineInterceptor(COMMAND_EXECUTOR_TASK_ENHANCE_CLASS)
@@ -69,6 +81,19 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
                 .aroundClassStaticMethod(ElementMatchers.named(MethodNameConstant.DECORATE))
                 .implement(DATASOURCE_ADVICE_CLASS)
                 .build();
+        defineInterceptor(MERGE_SPILL_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.SPILL_APPEND))
+                .implement(MERGE_SPILL_ADVICE_CLASS)
+                .build();
+        defineInterceptor(EXECUTOR_METRICS_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.EXECUTOR_TASK_SUBMIT).or(ElementMatchers.named(MethodNameConstant.EXECUTOR_TASK_START))
+                        .or(ElementMatchers.named(MethodNameConstant.EXECUTOR_TASK_COMPLETE)))
+                .implement(EXECUTOR_METRICS_ADVICE_CLASS)
+                .build();
+        defineInterceptor(ROUTE_CACHE_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.ROUTE_CACHE_GET))
+                .implement(ROUTE_CACHE_ADVICE_CLASS)
+                .build();
     }
     
     @Override
@@ -21,6 +21,9 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.agent.metrics.api.MetricsRegister;
 import org.apache.shardingsphere.agent.metrics.api.entity.Metric;
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
+import org.apache.shardingsphere.agent.metrics.api.handle.GaugeHandle;
+import org.apache.shardingsphere.agent.metrics.api.handle.HistogramHandle;
 
 import java.util.Collection;
 import java.util.List;
@@ -217,6 +220,47 @@ public final class MetricsReporter {
         recordTime(name, null, duration);
     }
     
+    /**
+     * Get counter handle.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @return counter handle
+     */
+    public static CounterHandle getCounter(final String name, final String[] labelValues) {
+        return metricsRegister.getCounter(name, labelValues);
+    }
+    
+    /**
+     * Get counter handle.
+     *
+     * @param name name
+     * @return counter handle
+     */
+    public static CounterHandle getCounter(final String name) {
+        return getCounter(name, null);
+    }
+    
+    /**
+     * Get gauge handle.
+     *
+     * @param name name
+     * @return gauge handle
+     */
+    public static GaugeHandle getGauge(final String name) {
+        return metricsRegister.getGauge(name, null);
+    }
+    
+    /**
+     * Get histogram handle.
+     *
+     * @param name name
+     * @return histogram handle
+     */
+    public static HistogramHandle getHistogram(final String name) {
+        return metricsRegister.getHistogram(name, null);
+    }
+    
     private static String[] getLabelNames(final List<String> labels) {
         return labels.toArray(new String[0]);
     }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+import org.apache.shardingsphere.agent.metrics.api.util.ReflectiveUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ExecutorMetricsAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final ExecutorMetricsAdvice executorMetricsAdvice = new ExecutorMetricsAdvice();
+    
+    @Mock
+    private Method onSubmit;
+    
+    @Mock
+    private Method onStart;
+    
+    @Mock
+    private Method onComplete;
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertMethod() {
+        when(onSubmit.getName()).thenReturn(MethodNameConstant.EXECUTOR_TASK_SUBMIT);
+        when(onStart.getName()).thenReturn(MethodNameConstant.EXECUTOR_TASK_START);
+        when(onComplete.getName()).thenReturn(MethodNameConstant.EXECUTOR_TASK_COMPLETE);
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        executorMetricsAdvice.beforeMethod(targetObject, onSubmit, new Object[]{}, new MethodInvocationResult());
+        executorMetricsAdvice.beforeMethod(targetObject, onSubmit, new Object[]{}, new MethodInvocationResult());
+        executorMetricsAdvice.beforeMethod(targetObject, onStart, new Object[]{TimeUnit.MILLISECONDS.toNanos(5L)}, new MethodInvocationResult());
+        executorMetricsAdvice.beforeMethod(targetObject, onComplete, new Object[]{}, new MethodInvocationResult());
+        Map<String, DoubleAdder> doubleAdderMap = (Map<String, DoubleAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP");
+        assertThat(doubleAdderMap.get("executor_task_submitted_total").intValue(), is(2));
+        assertThat(doubleAdderMap.get("executor_task_started_total").intValue(), is(1));
+        assertThat(doubleAdderMap.get("executor_task_completed_total").intValue(), is(1));
+        assertThat(doubleAdderMap.get("executor_task_wait_millis_total").intValue(), is(5));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.util.ReflectiveUtil;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MergeSpillAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final MergeSpillAdvice mergeSpillAdvice = new MergeSpillAdvice();
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertMethod() {
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        MethodInvocationResult result = new MethodInvocationResult();
+        result.rebase(1024L);
+        mergeSpillAdvice.beforeMethod(targetObject, null, new Object[]{}, result);
+        mergeSpillAdvice.afterMethod(targetObject, null, new Object[]{}, result);
+        Map<String, DoubleAdder> doubleAdderMap = (Map<String, DoubleAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP");
+        DoubleAdder spillBytes = doubleAdderMap.get("sql_merge_spill_bytes_total");
+        assertNotNull(spillBytes);
+        assertThat(spillBytes.intValue(), is(1024));
+        DoubleAdder spillMillis = doubleAdderMap.get("sql_merge_spill_millis_total");
+        assertNotNull(spillMillis);
+        assertTrue(spillMillis.doubleValue() >= 0D);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.util.ReflectiveUtil;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class RouteCacheAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final RouteCacheAdvice routeCacheAdvice = new RouteCacheAdvice();
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertMethod() {
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        routeCacheAdvice.afterMethod(targetObject, null, new Object[]{}, createResult(Optional.of(new Object())));
+        routeCacheAdvice.afterMethod(targetObject, null, new Object[]{}, createResult(Optional.of(new Object())));
+        routeCacheAdvice.afterMethod(targetObject, null, new Object[]{}, createResult(Optional.empty()));
+        Map<String, DoubleAdder> doubleAdderMap = (Map<String, DoubleAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP");
+        assertThat(doubleAdderMap.get("route_cache_hit_total").intValue(), is(2));
+        assertThat(doubleAdderMap.get("route_cache_miss_total").intValue(), is(1));
+    }
+    
+    private MethodInvocationResult createResult(final Optional<Object> value) {
+        MethodInvocationResult result = new MethodInvocationResult();
+        result.rebase(value);
+        return result;
+    }
+}
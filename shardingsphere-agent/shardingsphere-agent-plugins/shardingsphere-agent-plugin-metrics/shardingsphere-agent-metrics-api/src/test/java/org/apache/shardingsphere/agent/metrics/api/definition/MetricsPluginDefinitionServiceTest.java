@@ -31,7 +31,7 @@ public final class MetricsPluginDefinitionServiceTest {
     @Test
     public void assertDefine() {
         Collection<PluginInterceptorPoint> interceptorPointList = metricsPluginDefinitionService.install();
-        assertThat(interceptorPointList.size(), is(5));
+        assertThat(interceptorPointList.size(), is(8));
     }
     
     @Test
@@ -21,6 +21,9 @@ import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import org.apache.shardingsphere.agent.metrics.api.MetricsRegister;
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
+import org.apache.shardingsphere.agent.metrics.api.handle.GaugeHandle;
+import org.apache.shardingsphere.agent.metrics.api.handle.HistogramHandle;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -128,6 +131,38 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public CounterHandle getCounter(final String name, final String[] labelValues) {
+        Counter counter = COUNTER_MAP.get(name);
+        Counter.Child child = null != labelValues ? counter.labels(labelValues) : counter.labels();
+        return child::inc;
+    }
+    
+    @Override
+    public GaugeHandle getGauge(final String name, final String[] labelValues) {
+        Gauge gauge = GAUGE_MAP.get(name);
+        Gauge.Child child = null != labelValues ? gauge.labels(labelValues) : gauge.labels();
+        return new GaugeHandle() {
+            
+            @Override
+            public void inc() {
+                child.inc();
+            }
+            
+            @Override
+            public void dec() {
+                child.dec();
+            }
+        };
+    }
+    
+    @Override
+    public HistogramHandle getHistogram(final String name, final String[] labelValues) {
+        Histogram histogram = HISTOGRAM_MAP.get(name);
+        Histogram.Child child = null != labelValues ? histogram.labels(labelValues) : histogram.labels();
+        return child::observe;
+    }
+    
     private static class PrometheusMetricsRegisterHolder {
         
         private static final PrometheusMetricsRegister INSTANCE = new PrometheusMetricsRegister();
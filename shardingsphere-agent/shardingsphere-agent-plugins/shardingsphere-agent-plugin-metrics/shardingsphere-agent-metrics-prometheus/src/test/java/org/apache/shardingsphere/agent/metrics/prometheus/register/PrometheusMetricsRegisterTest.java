@@ -17,10 +17,16 @@
 
 package org.apache.shardingsphere.agent.metrics.prometheus.register;
 
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import org.apache.shardingsphere.agent.metrics.api.handle.CounterHandle;
+import org.apache.shardingsphere.agent.metrics.api.handle.GaugeHandle;
+import org.apache.shardingsphere.agent.metrics.api.handle.HistogramHandle;
 import org.apache.shardingsphere.agent.metrics.prometheus.util.ReflectiveUtil;
+import org.junit.After;
 import org.junit.Test;
 
 import java.util.Map;
@@ -30,8 +36,29 @@ import static org.junit.Assert.assertThat;
 
 public final class PrometheusMetricsRegisterTest {
     
+    private static final String HANDLE_COUNTER = "handle_counter";
+    
+    private static final String HANDLE_GAUGE = "handle_gauge";
+    
+    private static final String HANDLE_HISTOGRAM = "handle_histogram";
+    
     private final PrometheusMetricsRegister prometheusMetricsRegister = PrometheusMetricsRegister.getInstance();
     
+    @After
+    public void tearDown() {
+        unregister("COUNTER_MAP", HANDLE_COUNTER);
+        unregister("GAUGE_MAP", HANDLE_GAUGE);
+        unregister("HISTOGRAM_MAP", HANDLE_HISTOGRAM);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void unregister(final String mapFieldName, final String name) {
+        Collector collector = ((Map<String, ? extends Collector>) ReflectiveUtil.getFieldValue(prometheusMetricsRegister, mapFieldName)).remove(name);
+        if (null != collector) {
+            CollectorRegistry.defaultRegistry.unregister(collector);
+        }
+    }
+    
     @Test
     @SuppressWarnings("unchecked")
     public void assertCounter() {
@@ -89,4 +116,51 @@ public final class PrometheusMetricsRegisterTest {
         Histogram histogram = histogramMap.get(name);
         assertThat(histogram.labels(labelNames).get().sum, is(1000.0));
     }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertCounterHandle() {
+        String[] labelNames = {"name"};
+        prometheusMetricsRegister.registerCounter(HANDLE_COUNTER, labelNames, "the shardingsphere counter handle");
+        CounterHandle counterHandle = prometheusMetricsRegister.getCounter(HANDLE_COUNTER, labelNames);
+        counterHandle.inc();
+        counterHandle.inc(2);
+        prometheusMetricsRegister.counterIncrement(HANDLE_COUNTER, labelNames);
+        Counter counter = ((Map<String, Counter>) ReflectiveUtil.getFieldValue(prometheusMetricsRegister, "COUNTER_MAP")).get(HANDLE_COUNTER);
+        assertThat(counter.labels(labelNames).get(), is(4.0d));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertCounterHandleWithoutLabels() {
+        prometheusMetricsRegister.registerCounter(HANDLE_COUNTER, null, "the shardingsphere counter handle");
+        prometheusMetricsRegister.getCounter(HANDLE_COUNTER, null).inc(3);
+        Counter counter = ((Map<String, Counter>) ReflectiveUtil.getFieldValue(prometheusMetricsRegister, "COUNTER_MAP")).get(HANDLE_COUNTER);
+        assertThat(counter.get(), is(3.0d));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertGaugeHandle() {
+        String[] labelNames = {"name"};
+        prometheusMetricsRegister.registerGauge(HANDLE_GAUGE, labelNames, "the shardingsphere gauge handle");
+        GaugeHandle gaugeHandle = prometheusMetricsRegister.getGauge(HANDLE_GAUGE, labelNames);
+        gaugeHandle.inc();
+        gaugeHandle.inc();
+        gaugeHandle.dec();
+        prometheusMetricsRegister.gaugeIncrement(HANDLE_GAUGE, labelNames);
+        Gauge gauge = ((Map<String, Gauge>) ReflectiveUtil.getFieldValue(prometheusMetricsRegister, "GAUGE_MAP")).get(HANDLE_GAUGE);
+        assertThat(gauge.labels(labelNames).get(), is(2.0d));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertHistogramHandle() {
+        prometheusMetricsRegister.registerHistogram(HANDLE_HISTOGRAM, null, "the shardingsphere histogram handle");
+        HistogramHandle histogramHandle = prometheusMetricsRegister.getHistogram(HANDLE_HISTOGRAM, null);
+        histogramHandle.observe(500);
+        histogramHandle.observe(1000);
+        Histogram histogram = ((Map<String, Histogram>) ReflectiveUtil.getFieldValue(prometheusMetricsRegister, "HISTOGRAM_MAP")).get(HANDLE_HISTOGRAM);
+        assertThat(histogram.labels().get().sum, is(1500.0));
+    }
 }
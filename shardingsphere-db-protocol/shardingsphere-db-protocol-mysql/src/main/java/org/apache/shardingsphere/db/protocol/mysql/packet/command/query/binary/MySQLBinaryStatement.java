@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.util.List;
 
@@ -33,6 +34,8 @@ public final class MySQLBinaryStatement {
     
     private final String sql;
     
+    private final SQLStatement sqlStatement;
+    
     private final int parameterCount;
     
     private List<MySQLBinaryStatementParameterType> parameterTypes;
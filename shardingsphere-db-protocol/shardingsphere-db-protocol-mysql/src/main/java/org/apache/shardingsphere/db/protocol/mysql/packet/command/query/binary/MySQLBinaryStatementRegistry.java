@@ -19,24 +19,27 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * MySQL binary prepared statement registry.
+ * 
+ * <p>Binary statements are registered for each connection, least recently used ones are evicted if statement count of the connection exceeds limit.</p>
  */
 @NoArgsConstructor(access = AccessLevel.NONE)
 public final class MySQLBinaryStatementRegistry {
     
     private static final MySQLBinaryStatementRegistry INSTANCE = new MySQLBinaryStatementRegistry();
     
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
+    private static final int MAX_STATEMENT_COUNT_PER_CONNECTION = 1024;
     
-    private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
-    
-    private final AtomicInteger sequence = new AtomicInteger();
+    private final ConcurrentMap<Integer, MySQLConnectionBinaryStatementRegistry> connectionBinaryStatements = new ConcurrentHashMap<>(65535, 1);
     
     /**
      * Get prepared statement registry instance.
@@ -50,39 +53,85 @@ public final class MySQLBinaryStatementRegistry {
     /**
      * Register.
      *
+     * @param connectionId connection ID
+     */
+    public void register(final int connectionId) {
+        connectionBinaryStatements.put(connectionId, new MySQLConnectionBinaryStatementRegistry());
+    }
+    
+    /**
+     * Register.
+     *
+     * @param connectionId connection ID
      * @param sql SQL
+     * @param sqlStatement SQL statement
      * @param parameterCount parameter count
      * @return statement ID
      */
-    public synchronized int register(final String sql, final int parameterCount) {
-        Integer result = statementIdAssigner.get(sql);
-        if (null != result) {
-            return result;
-        }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new MySQLBinaryStatement(sql, parameterCount));
-        return result;
+    public int register(final int connectionId, final String sql, final SQLStatement sqlStatement, final int parameterCount) {
+        MySQLConnectionBinaryStatementRegistry connectionBinaryStatementRegistry = connectionBinaryStatements.computeIfAbsent(connectionId, key -> new MySQLConnectionBinaryStatementRegistry());
+        return connectionBinaryStatementRegistry.register(new MySQLBinaryStatement(sql, sqlStatement, parameterCount));
     }
     
     /**
      * Get binary statement.
      *
+     * @param connectionId connection ID
      * @param statementId statement ID
-     * @return binary prepared statement
+     * @return binary prepared statement, null if absent or evicted
      */
-    public MySQLBinaryStatement get(final int statementId) {
-        return binaryStatements.get(statementId);
+    public MySQLBinaryStatement get(final int connectionId, final int statementId) {
+        MySQLConnectionBinaryStatementRegistry connectionBinaryStatementRegistry = connectionBinaryStatements.get(connectionId);
+        return null == connectionBinaryStatementRegistry ? null : connectionBinaryStatementRegistry.get(statementId);
     }
     
     /**
      * Unregister.
      *
+     * @param connectionId connection ID
+     */
+    public void unregister(final int connectionId) {
+        connectionBinaryStatements.remove(connectionId);
+    }
+    
+    /**
+     * Unregister.
+     *
+     * @param connectionId connection ID
      * @param statementId statement ID
      */
-    public synchronized void unregister(final int statementId) {
-        if (binaryStatements.containsKey(statementId)) {
-            statementIdAssigner.remove(binaryStatements.get(statementId).getSql());
+    public void unregister(final int connectionId, final int statementId) {
+        MySQLConnectionBinaryStatementRegistry connectionBinaryStatementRegistry = connectionBinaryStatements.get(connectionId);
+        if (null != connectionBinaryStatementRegistry) {
+            connectionBinaryStatementRegistry.unregister(statementId);
+        }
+    }
+    
+    private static final class MySQLConnectionBinaryStatementRegistry {
+        
+        private final Map<Integer, MySQLBinaryStatement> binaryStatements = new LinkedHashMap<Integer, MySQLBinaryStatement>(16, 0.75F, true) {
+            
+            private static final long serialVersionUID = 2398347685187461702L;
+            
+            @Override
+            protected boolean removeEldestEntry(final Entry<Integer, MySQLBinaryStatement> eldest) {
+                return size() > MAX_STATEMENT_COUNT_PER_CONNECTION;
+            }
+        };
+        
+        private int sequence;
+        
+        private synchronized int register(final MySQLBinaryStatement binaryStatement) {
+            int result = ++sequence;
+            binaryStatements.put(result, binaryStatement);
+            return result;
+        }
+        
+        private synchronized MySQLBinaryStatement get(final int statementId) {
+            return binaryStatements.get(statementId);
+        }
+        
+        private synchronized void unregister(final int statementId) {
             binaryStatements.remove(statementId);
         }
     }
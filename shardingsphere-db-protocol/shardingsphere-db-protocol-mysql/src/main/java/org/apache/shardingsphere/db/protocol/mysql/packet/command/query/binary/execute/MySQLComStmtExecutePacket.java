@@ -48,8 +48,12 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     
     private static final int NULL_BITMAP_OFFSET = 0;
     
+    private static final int UNKNOWN_STATEMENT_HANDLER_ERROR_CODE = 1243;
+    
+    @Getter
     private final int statementId;
     
+    @Getter
     private final MySQLBinaryStatement binaryStatement;
     
     private final int flags;
@@ -64,10 +68,13 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final List<Object> parameters;
     
-    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload) throws SQLException {
+    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
-        binaryStatement = MySQLBinaryStatementRegistry.getInstance().get(statementId);
+        binaryStatement = MySQLBinaryStatementRegistry.getInstance().get(connectionId, statementId);
+        if (null == binaryStatement) {
+            throw new SQLException(String.format("Unknown prepared statement handler (%d) given to mysqld_stmt_execute", statementId), "HY000", UNKNOWN_STATEMENT_HANDLER_ERROR_CODE);
+        }
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parameterCount = binaryStatement.getParameterCount();
@@ -18,13 +18,16 @@
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class MySQLBinaryStatementRegistryTest {
     
@@ -37,27 +40,56 @@ public final class MySQLBinaryStatementRegistryTest {
     }
     
     @Test
-    public void assertRegisterIfAbsent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1);
+    public void assertRegister() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(1, sql, sqlStatement, 1), is(1));
+        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1, 1);
         assertThat(actual.getSql(), is(sql));
+        assertThat(actual.getSqlStatement(), is(sqlStatement));
         assertThat(actual.getParameterCount(), is(1));
     }
     
     @Test
-    public void assertRegisterIfPresent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParameterCount(), is(1));
+    public void assertRegisterWithSameSQL() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(1, sql, mock(SQLStatement.class), 1), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(1, sql, mock(SQLStatement.class), 1), is(2));
+    }
+    
+    @Test
+    public void assertRegisterForDifferentConnections() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        MySQLBinaryStatementRegistry.getInstance().register(2);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(1, sql, mock(SQLStatement.class), 1), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(2, "SELECT 1", mock(SQLStatement.class), 0), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1, 1).getSql(), is(sql));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(2, 1).getSql(), is("SELECT 1"));
+    }
+    
+    @Test
+    public void assertRegisterWithEviction() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        for (int i = 0; i < 1025; i++) {
+            MySQLBinaryStatementRegistry.getInstance().register(1, sql, mock(SQLStatement.class), 1);
+        }
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1, 1));
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(1, 1025));
+    }
+    
+    @Test
+    public void assertUnregisterStatement() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        MySQLBinaryStatementRegistry.getInstance().register(1, sql, mock(SQLStatement.class), 1);
+        MySQLBinaryStatementRegistry.getInstance().unregister(1, 1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1, 1));
     }
     
     @Test
-    public void assertUnregisterIfPresent() {
-        MySQLBinaryStatementRegistry.getInstance().register(sql, 1);
+    public void assertUnregisterConnection() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        MySQLBinaryStatementRegistry.getInstance().register(1, sql, mock(SQLStatement.class), 1);
         MySQLBinaryStatementRegistry.getInstance().unregister(1);
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1);
-        assertNull(actual);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1, 1));
     }
 }
@@ -17,14 +17,21 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close;
 
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -33,6 +40,11 @@ public final class MySQLComStmtClosePacketTest {
     @Mock
     private MySQLPacketPayload payload;
     
+    @After
+    public void tearDown() {
+        BinaryStatementRegistryUtil.reset();
+    }
+    
     @Test
     public void assertNew() {
         when(payload.readInt4()).thenReturn(1);
@@ -48,9 +60,14 @@ public final class MySQLComStmtClosePacketTest {
     }
     
     @Test
-    public void assertRemoveCachedStatement() {
-        when(payload.readInt4()).thenReturn(1);
+    public void assertUnregisterClosedStatement() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        int statementId = MySQLBinaryStatementRegistry.getInstance().register(1, "SELECT 1", mock(SQLStatement.class), 0);
+        int anotherStatementId = MySQLBinaryStatementRegistry.getInstance().register(1, "SELECT 2", mock(SQLStatement.class), 0);
+        when(payload.readInt4()).thenReturn(statementId);
         MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload);
-        actual.removeCachedStatement();
+        MySQLBinaryStatementRegistry.getInstance().unregister(1, actual.getStatementId());
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(1, anotherStatementId));
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1, statementId));
     }
 }
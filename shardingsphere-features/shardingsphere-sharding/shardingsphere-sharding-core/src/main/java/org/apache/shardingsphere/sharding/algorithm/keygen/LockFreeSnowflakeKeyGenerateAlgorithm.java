@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock free snowflake key generate algorithm.
+ * 
+ * <pre>
+ *     Key layout is same as {@link SnowflakeKeyGenerateAlgorithm}.
+ *     Timestamp offset and sequence are packed into one atomic long and updated with CAS.
+ *     Sequence overflow borrows the next millisecond instead of spinning, callers wait once the borrowed time exceeds max tolerate time difference.
+ *     Clock moving backwards is waited within max tolerate time difference and fails beyond it, same as {@link SnowflakeKeyGenerateAlgorithm}.
+ * </pre>
+ */
+public final class LockFreeSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm {
+    
+    private static final String WORKER_ID_KEY = "worker-id";
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private static final long WORKER_ID_MAX_VALUE = 1L << WORKER_ID_BITS;
+    
+    private static final long WORKER_ID = 0;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private long workerId;
+    
+    private int maxVibrationOffset;
+    
+    private int maxTolerateTimeDifferenceMilliseconds;
+    
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong(-1L << SEQUENCE_BITS);
+    
+    private final AtomicLong lastObservedMilliseconds = new AtomicLong();
+    
+    @Override
+    public void init() {
+        workerId = getWorkerId();
+        maxVibrationOffset = getMaxVibrationOffset();
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds();
+    }
+    
+    private long getWorkerId() {
+        long result = Long.parseLong(props.getOrDefault(WORKER_ID_KEY, WORKER_ID).toString());
+        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE, "Illegal worker id.");
+        return result;
+    }
+    
+    private int getMaxVibrationOffset() {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        Preconditions.checkArgument(result >= 0 && result <= SEQUENCE_MASK, "Illegal max vibration offset.");
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMilliseconds() {
+        return Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS).toString());
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        return toKey(reserve(1));
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        if (count <= 0) {
+            return result;
+        }
+        long first = reserve(count);
+        for (int i = 0; i < count; i++) {
+            result.add(toKey(first + i));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private long reserve(final int count) {
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long lastMilliseconds = (last >> SEQUENCE_BITS) + SnowflakeKeyGenerateAlgorithm.EPOCH;
+            long currentMilliseconds = getCurrentMilliseconds();
+            long borrowedMilliseconds = lastMilliseconds - currentMilliseconds;
+            if (borrowedMilliseconds > maxTolerateTimeDifferenceMilliseconds) {
+                Thread.sleep(borrowedMilliseconds);
+                continue;
+            }
+            long first = currentMilliseconds > lastMilliseconds
+                    ? (currentMilliseconds - SnowflakeKeyGenerateAlgorithm.EPOCH) << SEQUENCE_BITS | getVibrationOffset(currentMilliseconds) : last + 1;
+            if (lastTimestampAndSequence.compareAndSet(last, first + count - 1)) {
+                return first;
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private long getCurrentMilliseconds() {
+        long result = timeService.getCurrentMillis();
+        long lastMilliseconds = lastObservedMilliseconds.get();
+        long timeDifferenceMilliseconds = lastMilliseconds - result;
+        if (timeDifferenceMilliseconds > 0L) {
+            Preconditions.checkState(timeDifferenceMilliseconds < maxTolerateTimeDifferenceMilliseconds,
+                    "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, result);
+            Thread.sleep(timeDifferenceMilliseconds);
+            result = timeService.getCurrentMillis();
+        }
+        lastObservedMilliseconds.accumulateAndGet(result, Math::max);
+        return result;
+    }
+    
+    private long getVibrationOffset(final long currentMilliseconds) {
+        return currentMilliseconds % (maxVibrationOffset + 1);
+    }
+    
+    private long toKey(final long timestampAndSequence) {
+        return (timestampAndSequence >> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS | workerId << WORKER_ID_LEFT_SHIFT_BITS | timestampAndSequence & SEQUENCE_MASK;
+    }
+    
+    @Override
+    public String getType() {
+        return "LOCK_FREE_SNOWFLAKE";
+    }
+}
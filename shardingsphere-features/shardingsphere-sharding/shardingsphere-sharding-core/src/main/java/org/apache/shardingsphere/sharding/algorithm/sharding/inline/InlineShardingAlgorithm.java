@@ -27,6 +27,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -40,6 +41,10 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private ModuloInlineExpression moduloExpression;
+    
+    private ThreadLocal<Closure<?>> closure;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -47,13 +52,20 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     @Override
     public void init() {
         allowRangeQuery = isAllowRangeQuery();
+        String algorithmExpression = getAlgorithmExpression();
+        moduloExpression = ModuloInlineExpression.compile(algorithmExpression).orElse(null);
+        Closure<?> closureTemplate = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        closure = ThreadLocal.withInitial(() -> createClosure(closureTemplate));
     }
     
-    private Closure<?> createClosure() {
+    private String getAlgorithmExpression() {
         String expression = props.getProperty(ALGORITHM_EXPRESSION_KEY);
         Preconditions.checkNotNull(expression, "Inline sharding algorithm expression cannot be null.");
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression.trim());
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        return InlineExpressionParser.handlePlaceHolder(expression.trim());
+    }
+    
+    private Closure<?> createClosure(final Closure<?> closureTemplate) {
+        Closure<?> result = closureTemplate.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         return result;
     }
@@ -64,7 +76,13 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
+        if (null != moduloExpression) {
+            Optional<String> result = moduloExpression.evaluate(shardingValue.getColumnName(), shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Closure<?> closure = this.closure.get();
         closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
         return closure.call().toString();
     }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Modulo inline expression, compiled form of {@code prefix${column % modulus}suffix}.
+ *
+ * <p>Evaluates integral sharding values without groovy, other values should fall back to closure.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ModuloInlineExpression {
+    
+    private static final Pattern PATTERN = Pattern.compile("^([^${}\"\\\\]*)\\$\\{\\s*([A-Za-z_]\\w*)\\s*%\\s*(\\d{1,18})\\s*}([^${}\"\\\\]*)$");
+    
+    private final String prefix;
+    
+    private final String columnName;
+    
+    private final long modulus;
+    
+    private final String suffix;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled modulo inline expression, empty if expression is not a simple modulo expression
+     */
+    public static Optional<ModuloInlineExpression> compile(final String inlineExpression) {
+        Matcher matcher = PATTERN.matcher(inlineExpression);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ModuloInlineExpression(matcher.group(1), matcher.group(2), Long.parseLong(matcher.group(3)), matcher.group(4)));
+    }
+    
+    /**
+     * Evaluate modulo inline expression.
+     *
+     * @param columnName column name
+     * @param value sharding value
+     * @return evaluated result, empty if column name or value type is not supported
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (!this.columnName.equals(columnName) || !isIntegral(value)) {
+            return Optional.empty();
+        }
+        return Optional.of(prefix + ((Number) value).longValue() % modulus + suffix);
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+}
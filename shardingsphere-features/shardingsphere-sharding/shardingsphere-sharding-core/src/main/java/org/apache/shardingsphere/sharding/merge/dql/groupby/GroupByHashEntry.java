@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+import java.util.Objects;
+
+/**
+ * Group by hash entry.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class GroupByHashEntry {
+    
+    private final int hash;
+    
+    private final Object[] groupValues;
+    
+    private final MemoryQueryResultRow row;
+    
+    private final AggregationUnit[] aggregationUnits;
+    
+    boolean matches(final int hash, final Object[] groupValues) {
+        if (this.hash != hash) {
+            return false;
+        }
+        for (int i = 0; i < groupValues.length; i++) {
+            if (!Objects.equals(this.groupValues[i], groupValues[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
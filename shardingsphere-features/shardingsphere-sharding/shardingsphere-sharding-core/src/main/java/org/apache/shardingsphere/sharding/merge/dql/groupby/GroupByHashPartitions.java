@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Group by hash partitions.
+ * 
+ * <p>Rows of groups which can not be held in memory any more are spilled into hash partitions by group by values,
+ * so that each partition contains all rows of its groups and can be aggregated independently.</p>
+ */
+final class GroupByHashPartitions implements Closeable {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int SEED = 0x9E3779B9;
+    
+    private final int[] groupByIndexes;
+    
+    private final int seed;
+    
+    private final long bufferBytes;
+    
+    private final List<List<Object[]>> buffers = new ArrayList<>(PARTITION_COUNT);
+    
+    private final long[] bufferedBytes = new long[PARTITION_COUNT];
+    
+    private final SpillFile[] spillFiles = new SpillFile[PARTITION_COUNT];
+    
+    GroupByHashPartitions(final Collection<OrderByItem> groupByItems, final int depth, final long memoryBudgetBytes) {
+        groupByIndexes = groupByItems.stream().mapToInt(OrderByItem::getIndex).toArray();
+        seed = SEED * (depth + 1);
+        bufferBytes = memoryBudgetBytes / PARTITION_COUNT / 2;
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            buffers.add(new LinkedList<>());
+        }
+    }
+    
+    /**
+     * Add current row of query result.
+     * 
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    void add(final QueryResult queryResult) throws SQLException, IOException {
+        MemoryQueryResultRow row = new MemoryQueryResultRow(queryResult);
+        int partition = getPartition(row);
+        buffers.get(partition).add(row.getData());
+        bufferedBytes[partition] += row.estimateSize();
+        if (bufferedBytes[partition] >= bufferBytes) {
+            flush(partition);
+        }
+    }
+    
+    private int getPartition(final MemoryQueryResultRow row) {
+        int result = seed;
+        for (int each : groupByIndexes) {
+            result = 31 * result + Objects.hashCode(row.getCell(each));
+        }
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        result *= 0xC2B2AE35;
+        result ^= result >>> 16;
+        return (result & Integer.MAX_VALUE) % PARTITION_COUNT;
+    }
+    
+    private void flush(final int partition) throws IOException {
+        if (null == spillFiles[partition]) {
+            spillFiles[partition] = SpillFile.create();
+        }
+        spillFiles[partition].append(buffers.get(partition));
+        buffers.get(partition).clear();
+        bufferedBytes[partition] = 0L;
+    }
+    
+    /**
+     * Finish spilling.
+     * 
+     * @return spill files of not empty partitions
+     * @throws IOException IO exception
+     */
+    Collection<SpillFile> finish() throws IOException {
+        Collection<SpillFile> result = new LinkedList<>();
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            if (!buffers.get(i).isEmpty()) {
+                flush(i);
+            }
+            if (null != spillFiles[i]) {
+                result.add(spillFiles[i]);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        for (SpillFile each : spillFiles) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Group by hash table.
+ * 
+ * <p>Group rows and aggregation units are stored together with open addressing on group by values,
+ * group by values of current row are read into a reused buffer and only copied when a new group is found.
+ * Heap size of the table is estimated while groups are created, which decides when a memory merge should spill.</p>
+ */
+public final class GroupByHashTable {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private static final int ENTRY_SIZE = 64;
+    
+    private static final int REFERENCE_SIZE = 8;
+    
+    private static final int AGGREGATION_UNIT_SIZE = 64;
+    
+    private final int[] groupByIndexes;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final boolean approximateCountDistinct;
+    
+    private final Object[] currentGroupValues;
+    
+    private GroupByHashEntry[] entries = new GroupByHashEntry[INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Getter
+    private long estimatedSize;
+    
+    public GroupByHashTable(final Collection<OrderByItem> groupByItems, final Collection<AggregationProjection> aggregationProjections) {
+        this(groupByItems, aggregationProjections, false);
+    }
+    
+    public GroupByHashTable(final Collection<OrderByItem> groupByItems, final Collection<AggregationProjection> aggregationProjections, final boolean approximateCountDistinct) {
+        groupByIndexes = groupByItems.stream().mapToInt(OrderByItem::getIndex).toArray();
+        this.aggregationProjections = new ArrayList<>(aggregationProjections);
+        this.approximateCountDistinct = approximateCountDistinct;
+        currentGroupValues = new Object[groupByIndexes.length];
+    }
+    
+    /**
+     * Get group by hash entry of current row, create if absent.
+     * 
+     * @param queryResult query result
+     * @return group by hash entry
+     * @throws SQLException SQL exception
+     */
+    public GroupByHashEntry getOrCreate(final QueryResult queryResult) throws SQLException {
+        int hash = loadCurrentGroupValues(queryResult);
+        int position = findPosition(hash);
+        if (null != entries[position]) {
+            return entries[position];
+        }
+        GroupByHashEntry result = new GroupByHashEntry(hash, currentGroupValues.clone(), new MemoryQueryResultRow(queryResult), createAggregationUnits());
+        entries[position] = result;
+        estimatedSize += ENTRY_SIZE + REFERENCE_SIZE * currentGroupValues.length + AGGREGATION_UNIT_SIZE * aggregationProjections.size() + result.getRow().estimateSize();
+        if (++size > entries.length >> 1) {
+            resize();
+        }
+        return result;
+    }
+    
+    /**
+     * Find group by hash entry of current row.
+     * 
+     * @param queryResult query result
+     * @return group by hash entry
+     * @throws SQLException SQL exception
+     */
+    public Optional<GroupByHashEntry> find(final QueryResult queryResult) throws SQLException {
+        return Optional.ofNullable(entries[findPosition(loadCurrentGroupValues(queryResult))]);
+    }
+    
+    private int loadCurrentGroupValues(final QueryResult queryResult) throws SQLException {
+        int result = 1;
+        for (int i = 0; i < groupByIndexes.length; i++) {
+            currentGroupValues[i] = queryResult.getValue(groupByIndexes[i], Object.class);
+            result = 31 * result + Objects.hashCode(currentGroupValues[i]);
+        }
+        return result ^ result >>> 16;
+    }
+    
+    private int findPosition(final int hash) {
+        int mask = entries.length - 1;
+        int result = hash & mask;
+        while (null != entries[result] && !entries[result].matches(hash, currentGroupValues)) {
+            result = (result + 1) & mask;
+        }
+        return result;
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            result[i] = AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection, approximateCountDistinct);
+        }
+        return result;
+    }
+    
+    private void resize() {
+        GroupByHashEntry[] oldEntries = entries;
+        entries = new GroupByHashEntry[oldEntries.length << 1];
+        int mask = entries.length - 1;
+        for (GroupByHashEntry each : oldEntries) {
+            if (null == each) {
+                continue;
+            }
+            int position = each.getHash() & mask;
+            while (null != entries[position]) {
+                position = (position + 1) & mask;
+            }
+            entries[position] = each;
+        }
+    }
+    
+    /**
+     * Get all group by hash entries.
+     * 
+     * @return group by hash entries
+     */
+    public List<GroupByHashEntry> getEntries() {
+        List<GroupByHashEntry> result = new ArrayList<>(size);
+        for (GroupByHashEntry each : entries) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether hash table is empty.
+     * 
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+}
@@ -19,85 +19,189 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
-import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SortedSpillFiles;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFile;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFileQueryResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>If estimated heap size of groups exceeds memory budget, rows of new groups are spilled into hash partitions on disk,
+ * every partition is aggregated and written as sorted run, then all sorted runs are merged while iterating.</p>
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
     
+    private static final int MAX_SPILL_DEPTH = 3;
+    
     public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        super(null, schema, selectStatementContext, queryResults);
+        this(queryResults, selectStatementContext, schema, new ConfigurationProperties(new Properties()));
+    }
+    
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, 
+                                     final ShardingSphereSchema schema, final ConfigurationProperties props) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults, props);
     }
     
     @Override
-    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema, 
-                                              final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+    protected Iterable<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema, 
+                                                  final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        GroupByRowComparator comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        GroupByHashTable groupByHashTable = createGroupByHashTable(selectStatementContext);
+        Collection<SpillFile> sortedRuns = new LinkedList<>();
+        boolean spilled = false;
+        try {
+            Optional<GroupByHashPartitions> partitions = aggregateGroups(selectStatementContext, queryResults, groupByHashTable, 0);
+            if (!partitions.isPresent()) {
+                return getMemoryResultSetRows(selectStatementContext, groupByHashTable, comparator);
+            }
+            spill(selectStatementContext, queryResults.get(0).getMetaData(), groupByHashTable, partitions.get(), 0, comparator, sortedRuns);
+            spilled = true;
+        } catch (final IOException ex) {
+            throw new SQLException("Can not spill group by rows into disk.", ex);
+        } finally {
+            if (!spilled) {
+                closeSortedRuns(sortedRuns);
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return new SortedSpillFiles(sortedRuns, comparator);
+    }
+    
+    private GroupByHashTable createGroupByHashTable(final SelectStatementContext selectStatementContext) {
+        return new GroupByHashTable(selectStatementContext.getGroupByContext().getItems(), selectStatementContext.getProjectionsContext().getAggregationProjections(), 
+                getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_MERGE_APPROXIMATE_COUNT_DISTINCT_ENABLED));
+    }
+    
+    private Optional<GroupByHashPartitions> aggregateGroups(final SelectStatementContext selectStatementContext, final List<QueryResult> queryResults, 
+                                                            final GroupByHashTable groupByHashTable, final int depth) throws SQLException, IOException {
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        List<List<Comparable<?>>> aggregationValues = createAggregationValues(aggregationProjections);
+        GroupByHashPartitions partitions = null;
+        boolean completed = false;
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    if (null == partitions) {
+                        aggregate(each, groupByHashTable.getOrCreate(each), aggregationProjections, aggregationValues);
+                        if (isMemoryBudgetExceeded(groupByHashTable, depth)) {
+                            partitions = new GroupByHashPartitions(selectStatementContext.getGroupByContext().getItems(), depth, getMemoryBudgetBytes());
+                        }
+                        continue;
+                    }
+                    Optional<GroupByHashEntry> groupByHashEntry = groupByHashTable.find(each);
+                    if (groupByHashEntry.isPresent()) {
+                        aggregate(each, groupByHashEntry.get(), aggregationProjections, aggregationValues);
+                    } else {
+                        partitions.add(each);
+                    }
+                }
+            }
+            completed = true;
+        } finally {
+            if (!completed && null != partitions) {
+                partitions.close();
+            }
+        }
+        setAggregationValueToMemoryRow(groupByHashTable, aggregationProjections);
+        return Optional.ofNullable(partitions);
+    }
+    
+    private boolean isMemoryBudgetExceeded(final GroupByHashTable groupByHashTable, final int depth) {
+        long memoryBudgetBytes = getMemoryBudgetBytes();
+        return memoryBudgetBytes > 0 && depth < MAX_SPILL_DEPTH && groupByHashTable.getEstimatedSize() > memoryBudgetBytes;
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private long getMemoryBudgetBytes() {
+        return getProps().<Long>getValue(ConfigurationPropertyKey.SQL_MERGE_MEMORY_BUDGET_BYTES);
+    }
+    
+    private void spill(final SelectStatementContext selectStatementContext, final QueryResultMetaData metaData, final GroupByHashTable groupByHashTable, 
+                       final GroupByHashPartitions partitions, final int depth, final GroupByRowComparator comparator, final Collection<SpillFile> sortedRuns) throws SQLException, IOException {
+        try {
+            sortedRuns.add(spillSortedRun(groupByHashTable, comparator));
+            for (SpillFile each : partitions.finish()) {
+                try (SpillFile partition = each) {
+                    GroupByHashTable partitionGroupByHashTable = createGroupByHashTable(selectStatementContext);
+                    Optional<GroupByHashPartitions> subPartitions = aggregateGroups(
+                            selectStatementContext, Collections.singletonList(new SpillFileQueryResult(partition, metaData)), partitionGroupByHashTable, depth + 1);
+                    if (subPartitions.isPresent()) {
+                        spill(selectStatementContext, metaData, partitionGroupByHashTable, subPartitions.get(), depth + 1, comparator, sortedRuns);
+                    } else {
+                        sortedRuns.add(spillSortedRun(partitionGroupByHashTable, comparator));
+                    }
+                }
+            }
+        } finally {
+            partitions.close();
+        }
+    }
+    
+    private SpillFile spillSortedRun(final GroupByHashTable groupByHashTable, final GroupByRowComparator comparator) throws IOException {
+        SpillFile result = SpillFile.create();
+        result.append(getSortedRows(groupByHashTable, comparator).stream().map(MemoryQueryResultRow::getData).collect(Collectors.toList()));
+        return result;
+    }
+    
+    private void closeSortedRuns(final Collection<SpillFile> sortedRuns) {
+        for (SpillFile each : sortedRuns) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(), 
-                input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
-            aggregationMap.put(groupByValue, map);
+    }
+    
+    private List<List<Comparable<?>>> createAggregationValues(final List<AggregationProjection> aggregationProjections) {
+        List<List<Comparable<?>>> result = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            result.add(new ArrayList<>(Math.max(1, each.getDerivedAggregationProjections().size())));
         }
+        return result;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+    private void aggregate(final QueryResult queryResult, final GroupByHashEntry groupByHashEntry,
+                           final List<AggregationProjection> aggregationProjections, final List<List<Comparable<?>>> aggregationValues) throws SQLException {
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            List<Comparable<?>> values = aggregationValues.get(i);
+            values.clear();
+            if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, aggregationProjection));
             } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                for (AggregationProjection derived : aggregationProjection.getDerivedAggregationProjections()) {
                     values.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            groupByHashEntry.getAggregationUnits()[i].merge(values);
         }
     }
     
@@ -107,11 +211,10 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext, 
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private void setAggregationValueToMemoryRow(final GroupByHashTable groupByHashTable, final List<AggregationProjection> aggregationProjections) {
+        for (GroupByHashEntry each : groupByHashTable.getEntries()) {
+            for (int i = 0; i < aggregationProjections.size(); i++) {
+                each.getRow().setCell(aggregationProjections.get(i).getIndex(), each.getAggregationUnits()[i].getResult());
             }
         }
     }
@@ -139,13 +242,17 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
+                                                              final GroupByHashTable groupByHashTable, final GroupByRowComparator comparator) {
+        if (groupByHashTable.isEmpty()) {
             Object[] data = generateReturnData(selectStatementContext);
             return Collections.singletonList(new MemoryQueryResultRow(data));
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return getSortedRows(groupByHashTable, comparator);
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows(final GroupByHashTable groupByHashTable, final GroupByRowComparator comparator) {
+        List<MemoryQueryResultRow> result = groupByHashTable.getEntries().stream().map(GroupByHashEntry::getRow).collect(Collectors.toList());
+        result.sort(comparator);
         return result;
     }
     
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit.
+ * 
+ * <p>Distinct values are counted exactly until the threshold is reached, then they are offered into HyperLogLog sketch.</p>
+ */
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final int PRECISION = 14;
+    
+    private static final int EXACT_THRESHOLD = 256;
+    
+    private Collection<Comparable<?>> values = new HashSet<>();
+    
+    private HyperLogLog hyperLogLog;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        if (null != hyperLogLog) {
+            hyperLogLog.offer(values.get(0));
+            return;
+        }
+        this.values.add(values.get(0));
+        if (this.values.size() > EXACT_THRESHOLD) {
+            hyperLogLog = new HyperLogLog(PRECISION);
+            this.values.forEach(hyperLogLog::offer);
+            this.values = null;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return null == hyperLogLog ? values.size() : hyperLogLog.estimate();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal accumulator.
+ * 
+ * <p>Integral values are accumulated into primitive long, until non integral value merged or long overflows, then falls back to {@code BigDecimal}.</p>
+ */
+public final class DecimalAccumulator {
+    
+    private boolean accumulated;
+    
+    private long longResult;
+    
+    private BigDecimal decimalResult;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     */
+    public void add(final Comparable<?> value) {
+        if (null == decimalResult && isIntegral(value)) {
+            long addend = ((Number) value).longValue();
+            long sum = longResult + addend;
+            if (((longResult ^ sum) & (addend ^ sum)) >= 0) {
+                longResult = sum;
+                accumulated = true;
+                return;
+            }
+        }
+        decimalResult = getDecimalResult().add(new BigDecimal(value.toString()));
+        accumulated = true;
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private BigDecimal getDecimalResult() {
+        return null == decimalResult ? BigDecimal.valueOf(longResult) : decimalResult;
+    }
+    
+    /**
+     * Get accumulated result.
+     * 
+     * @return accumulated result, null if no value added
+     */
+    public BigDecimal getResult() {
+        return accumulated ? getDecimalResult() : null;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -31,14 +32,19 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Order by value.
+ * 
+ * <p>Order values of current row are decoded once when iterating, integral and temporal values are also kept as primitive keys,
+ * which are compared directly if the same order by item of both values has the same key type.
+ * Timestamp keys are epoch seconds, and nanos of timestamps are compared only if seconds are equal.</p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
@@ -49,13 +55,29 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<Boolean> orderValuesCaseSensitive;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final List<Comparable<?>> orderValues;
+    
+    private final OrderKeyType[] orderKeyTypes;
+    
+    private final long[] orderKeys;
+    
+    private final int[] orderNanos;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        orderDirections = orderByItems.stream().map(each -> each.getSegment().getOrderDirection()).toArray(OrderDirection[]::new);
+        nullOrderDirections = orderByItems.stream().map(each -> each.getSegment().getNullOrderDirection()).toArray(OrderDirection[]::new);
+        orderValues = new ArrayList<>(orderByItems.size());
+        orderKeyTypes = new OrderKeyType[orderByItems.size()];
+        orderKeys = new long[orderByItems.size()];
+        orderNanos = new int[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +121,71 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        orderValues.clear();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void loadOrderValues() throws SQLException {
+        int i = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues.add((Comparable<?>) value);
+            orderKeyTypes[i] = OrderKeyType.valueOf(value);
+            if (null != orderKeyTypes[i]) {
+                orderKeys[i] = orderKeyTypes[i].getKey(value);
+                orderNanos[i] = value instanceof Timestamp ? ((Timestamp) value).getNanos() : 0;
+            }
+            i++;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderKeyTypes.length; i++) {
+            int result = null != orderKeyTypes[i] && orderKeyTypes[i] == o.orderKeyTypes[i] ? compareOrderKey(o, i)
+                    : CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), orderDirections[i], nullOrderDirections[i], orderValuesCaseSensitive.get(i));
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareOrderKey(final OrderByValue o, final int index) {
+        int result = Long.compare(orderKeys[index], o.orderKeys[index]);
+        if (0 == result) {
+            result = Integer.compare(orderNanos[index], o.orderNanos[index]);
+        }
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
+    
+    private enum OrderKeyType {
+        
+        INTEGRAL, DATE, TIMESTAMP;
+        
+        private static OrderKeyType valueOf(final Object value) {
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                return INTEGRAL;
+            }
+            if (value instanceof Timestamp) {
+                return TIMESTAMP;
+            }
+            return value instanceof Date ? DATE : null;
+        }
+        
+        private long getKey(final Object value) {
+            switch (this) {
+                case INTEGRAL:
+                    return ((Number) value).longValue();
+                case DATE:
+                    return ((Date) value).getTime();
+                default:
+                    return Math.floorDiv(((Timestamp) value).getTime(), 1000L);
+            }
+        }
+    }
 }
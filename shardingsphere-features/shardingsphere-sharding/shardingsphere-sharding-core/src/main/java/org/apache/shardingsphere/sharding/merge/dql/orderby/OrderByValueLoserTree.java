@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Internal nodes keep the loser of their sub trees and node 0 keeps the overall winner,
+ * so only the path from the advanced leaf to root is replayed for each row, which costs {@code log(k)} comparisons.</p>
+ * 
+ * <p>Rows with equal order by values are returned in order of their query results.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) throws SQLException {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        for (int i = 0; i < this.orderByValues.length; i++) {
+            exhausted[i] = !this.orderByValues[i].next();
+        }
+        tree = new int[Math.max(1, this.orderByValues.length)];
+        if (this.orderByValues.length > 0) {
+            tree[0] = 1 == this.orderByValues.length ? 0 : build(1);
+        }
+    }
+    
+    private int build(final int node) {
+        int left = getWinner(node << 1);
+        int right = getWinner((node << 1) + 1);
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+    
+    private int getWinner(final int node) {
+        return node >= orderByValues.length ? node - orderByValues.length : build(node);
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get order by value of current winner.
+     * 
+     * @return order by value of current winner
+     */
+    public OrderByValue peek() {
+        return orderByValues[tree[0]];
+    }
+    
+    /**
+     * Iterate current winner and replay the path to root.
+     * 
+     * @return has next winner or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        int winner = tree[0];
+        exhausted[winner] = !orderByValues[winner].next();
+        for (int node = (winner + orderByValues.length) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+        return !exhausted[winner];
+    }
+    
+    private boolean beats(final int index, final int otherIndex) {
+        if (exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || (0 == result && index < otherIndex);
+    }
+}
@@ -23,10 +23,15 @@ import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementConte
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.type.TableAvailable;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
@@ -66,7 +71,17 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         if (sqlStatement instanceof DMLStatement && needMergeShardingValues) {
             mergeShardingConditions(shardingConditions);
         }
-        ShardingRouteEngineFactory.newInstance(rule, metaData, logicSQL.getSqlStatementContext(), shardingConditions, props, result.getRouteUnits()).route(result, rule);
+        Optional<ShardingRouteCache> routeCache = result.getRouteUnits().isEmpty() ? findRouteCache(logicSQL.getSqlStatementContext(), metaData, rule, props) : Optional.empty();
+        Optional<ShardingRouteCacheKey> routeCacheKey = routeCache.isPresent() ? ShardingRouteCacheKey.newInstance(logicSQL.getSql(), shardingConditions) : Optional.empty();
+        Optional<ShardingRouteCacheValue> cachedRoute = routeCacheKey.isPresent() ? routeCache.get().get(routeCacheKey.get()) : Optional.empty();
+        if (cachedRoute.isPresent()) {
+            cachedRoute.get().fill(result);
+        } else {
+            ShardingRouteEngineFactory.newInstance(rule, metaData, logicSQL.getSqlStatementContext(), shardingConditions, props, result.getRouteUnits()).route(result, rule);
+            if (routeCacheKey.isPresent() && !result.isFederated() && result.isSingleRouting()) {
+                routeCache.get().put(routeCacheKey.get(), new ShardingRouteCacheValue(result));
+            }
+        }
         validator.ifPresent(v -> v.postValidate(rule, logicSQL.getSqlStatementContext(), result, metaData.getSchema()));
     }
     
@@ -89,6 +104,19 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         return (selectContainsSubquery || insertSelectContainsSubquery) && !rule.getShardingLogicTableNames(sqlStatementContext.getTablesContext().getTableNames()).isEmpty();
     }
     
+    private Optional<ShardingRouteCache> findRouteCache(final SQLStatementContext<?> sqlStatementContext,
+                                                        final ShardingSphereMetaData metaData, final ShardingRule rule, final ConfigurationProperties props) {
+        int routeCacheMaxSize = props.<Integer>getValue(ConfigurationPropertyKey.SQL_ROUTE_CACHE_MAX_SIZE);
+        if (routeCacheMaxSize <= 0 || HintManager.isInstantiated() || !(sqlStatementContext instanceof SelectStatementContext) || ((SelectStatementContext) sqlStatementContext).isContainsSubquery()) {
+            return Optional.empty();
+        }
+        Collection<String> tableNames = sqlStatementContext.getTablesContext().getTableNames();
+        if (tableNames.isEmpty() || rule.getShardingLogicTableNames(tableNames).size() != tableNames.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(rule.getRouteCache(routeCacheMaxSize, metaData.getSchema()));
+    }
+    
     private void mergeShardingConditions(final ShardingConditions shardingConditions) {
         if (shardingConditions.getConditions().size() > 1) {
             ShardingCondition shardingCondition = shardingConditions.getConditions().remove(shardingConditions.getConditions().size() - 1);
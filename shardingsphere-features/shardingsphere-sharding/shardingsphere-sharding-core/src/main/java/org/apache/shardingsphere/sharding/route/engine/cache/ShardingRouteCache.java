@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.util.Optional;
+
+/**
+ * Sharding route cache.
+ * 
+ * <p>Route cache is bound to the schema it is created for, a new route cache should be created if schema changed.</p>
+ * <p>Hits and misses of {@link #get(ShardingRouteCacheKey)} are exported by metrics plugin of agent.</p>
+ */
+public final class ShardingRouteCache {
+    
+    @Getter
+    private final int maxSize;
+    
+    @Getter
+    private final ShardingSphereSchema schema;
+    
+    private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
+    
+    public ShardingRouteCache(final int maxSize, final ShardingSphereSchema schema) {
+        this.maxSize = maxSize;
+        this.schema = schema;
+        cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+    
+    /**
+     * Get cached route.
+     * 
+     * @param key route cache key
+     * @return cached route
+     */
+    public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+    
+    /**
+     * Put route into cache.
+     * 
+     * @param key route cache key
+     * @param value route cache value
+     */
+    public void put(final ShardingRouteCacheKey key, final ShardingRouteCacheValue value) {
+        cache.put(key, value);
+    }
+}
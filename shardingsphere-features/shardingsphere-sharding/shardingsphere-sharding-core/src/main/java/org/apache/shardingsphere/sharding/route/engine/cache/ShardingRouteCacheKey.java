@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding route cache key.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public final class ShardingRouteCacheKey {
+    
+    private final String sql;
+    
+    private final List<List<Object>> shardingValues;
+    
+    /**
+     * Create new instance of sharding route cache key.
+     * 
+     * <p>Only sharding conditions composed of list sharding values can be cached.</p>
+     * 
+     * @param sql SQL
+     * @param shardingConditions sharding conditions
+     * @return sharding route cache key
+     */
+    public static Optional<ShardingRouteCacheKey> newInstance(final String sql, final ShardingConditions shardingConditions) {
+        if (shardingConditions.getConditions().isEmpty()) {
+            return Optional.empty();
+        }
+        List<List<Object>> shardingValues = new ArrayList<>(shardingConditions.getConditions().size());
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            if (each.getValues().isEmpty()) {
+                return Optional.empty();
+            }
+            for (ShardingConditionValue shardingConditionValue : each.getValues()) {
+                if (!(shardingConditionValue instanceof ListShardingConditionValue)) {
+                    return Optional.empty();
+                }
+                shardingValues.add(new ArrayList<>(((ListShardingConditionValue<?>) shardingConditionValue).getValues()));
+            }
+        }
+        return Optional.of(new ShardingRouteCacheKey(sql, shardingValues));
+    }
+}
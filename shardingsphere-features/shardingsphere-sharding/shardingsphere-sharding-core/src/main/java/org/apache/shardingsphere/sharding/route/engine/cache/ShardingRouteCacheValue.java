@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+
+/**
+ * Sharding route cache value.
+ * 
+ * <p>Route units and original data nodes are copied in and out, because route context may be decorated by other rules after sharding route.</p>
+ */
+public final class ShardingRouteCacheValue {
+    
+    private final Collection<RouteUnit> routeUnits;
+    
+    private final Collection<Collection<DataNode>> originalDataNodes;
+    
+    public ShardingRouteCacheValue(final RouteContext routeContext) {
+        routeUnits = copyRouteUnits(routeContext.getRouteUnits());
+        originalDataNodes = copyOriginalDataNodes(routeContext.getOriginalDataNodes());
+    }
+    
+    /**
+     * Fill cached route into route context.
+     * 
+     * @param routeContext route context
+     */
+    public void fill(final RouteContext routeContext) {
+        routeContext.getRouteUnits().addAll(copyRouteUnits(routeUnits));
+        routeContext.getOriginalDataNodes().addAll(copyOriginalDataNodes(originalDataNodes));
+    }
+    
+    private Collection<RouteUnit> copyRouteUnits(final Collection<RouteUnit> routeUnits) {
+        Collection<RouteUnit> result = new ArrayList<>(routeUnits.size());
+        for (RouteUnit each : routeUnits) {
+            result.add(new RouteUnit(each.getDataSourceMapper(), new LinkedHashSet<>(each.getTableMappers())));
+        }
+        return result;
+    }
+    
+    private Collection<Collection<DataNode>> copyOriginalDataNodes(final Collection<Collection<DataNode>> originalDataNodes) {
+        Collection<Collection<DataNode>> result = new ArrayList<>(originalDataNodes.size());
+        for (Collection<DataNode> each : originalDataNodes) {
+            result.add(new LinkedList<>(each));
+        }
+        return result;
+    }
+}
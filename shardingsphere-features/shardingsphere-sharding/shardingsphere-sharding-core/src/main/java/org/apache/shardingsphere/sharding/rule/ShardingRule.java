@@ -22,12 +22,14 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.ExcludeTableEvent;
 import org.apache.shardingsphere.infra.rule.level.FeatureRule;
 import org.apache.shardingsphere.infra.rule.scope.SchemaRule;
@@ -46,6 +48,7 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
@@ -92,6 +95,9 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
     
     private final KeyGenerateAlgorithm defaultKeyGenerateAlgorithm;
     
+    @Getter(AccessLevel.NONE)
+    private volatile ShardingRouteCache routeCache;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(null != dataSourceMap && !dataSourceMap.isEmpty(), "Data sources cannot be empty.");
         dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceMap.keySet());
@@ -410,12 +416,26 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys to be generated
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -465,6 +485,24 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return result;
     }
     
+    /**
+     * Get route cache.
+     * 
+     * <p>Route cache will be recreated if max size or schema changed.</p>
+     *
+     * @param maxSize max size of route cache
+     * @param schema ShardingSphere schema
+     * @return route cache
+     */
+    public ShardingRouteCache getRouteCache(final int maxSize, final ShardingSphereSchema schema) {
+        ShardingRouteCache result = routeCache;
+        if (null == result || maxSize != result.getMaxSize() || schema != result.getSchema()) {
+            result = new ShardingRouteCache(maxSize, schema);
+            routeCache = result;
+        }
+        return result;
+    }
+    
     @Override
     public Map<String, Collection<DataNode>> getAllDataNodes() {
         Map<String, Collection<DataNode>> result = new LinkedHashMap<>();
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.FixedTimeService;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LockFreeSnowflakeKeyGenerateAlgorithmTest {
+    
+    private static final int DEFAULT_KEY_AMOUNT = 10;
+    
+    @After
+    public void tearDown() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreads() throws InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        int keyAmountPerThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        LockFreeSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(new Properties());
+        Set<Comparable<?>> actual = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < keyAmountPerThread; j++) {
+                    actual.add(keyGenerateAlgorithm.generateKey());
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(30L, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * keyAmountPerThread));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithSingleThread() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        LockFreeSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(new Properties());
+        List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
+        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
+        for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
+            actual.add(keyGenerateAlgorithm.generateKey());
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertGenerateKeyBeyondMaxSequencePerMilliSecond() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        LockFreeSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(new Properties());
+        Collection<Comparable<?>> actual = keyGenerateAlgorithm.generateKeys(4096);
+        assertThat(actual.size(), is(4096));
+        assertThat(keyGenerateAlgorithm.generateKey(), is(4194304L));
+    }
+    
+    @Test
+    public void assertGenerateKeys() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        Properties props = new Properties();
+        props.setProperty("worker-id", "1");
+        LockFreeSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(props);
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(3)), is(Arrays.<Comparable<?>>asList(4096L, 4097L, 4098L)));
+        assertThat(keyGenerateAlgorithm.generateKey(), is(4099L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithBorrowedTimeBeyondTolerateTime() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(3));
+        Properties props = new Properties();
+        props.setProperty("max-tolerate-time-difference-milliseconds", String.valueOf(0));
+        LockFreeSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(props);
+        keyGenerateAlgorithm.generateKeys(4096);
+        assertThat(keyGenerateAlgorithm.generateKey(), is(4194304L));
+        assertThat(keyGenerateAlgorithm.generateKey(), is(4194305L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithClockCallBackWithinTolerateTime() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(createTimeService(20L, 15L, 21L));
+        LockFreeSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(new Properties());
+        assertThat(keyGenerateAlgorithm.generateKey(), is(83886080L));
+        assertThat(keyGenerateAlgorithm.generateKey(), is(88080385L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithClockCallBackBeyondTolerateTime() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(createTimeService(20L, 10L));
+        LockFreeSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(new Properties());
+        keyGenerateAlgorithm.generateKey();
+        keyGenerateAlgorithm.generateKey();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetWorkerIdFailureWhenOutOfRange() {
+        Properties props = new Properties();
+        props.setProperty("worker-id", String.valueOf(Long.MIN_VALUE));
+        createKeyGenerateAlgorithm(props);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetMaxVibrationOffsetFailureWhenOutOfRange() {
+        Properties props = new Properties();
+        props.setProperty("max-vibration-offset", String.valueOf(4096));
+        createKeyGenerateAlgorithm(props);
+    }
+    
+    private TimeService createTimeService(final Long... millisecondsAfterEpoch) {
+        Iterator<Long> iterator = Arrays.asList(millisecondsAfterEpoch).iterator();
+        return new TimeService() {
+            
+            @Override
+            public long getCurrentMillis() {
+                return SnowflakeKeyGenerateAlgorithm.EPOCH + iterator.next();
+            }
+        };
+    }
+    
+    private LockFreeSnowflakeKeyGenerateAlgorithm createKeyGenerateAlgorithm(final Properties props) {
+        LockFreeSnowflakeKeyGenerateAlgorithm result = new LockFreeSnowflakeKeyGenerateAlgorithm();
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+}
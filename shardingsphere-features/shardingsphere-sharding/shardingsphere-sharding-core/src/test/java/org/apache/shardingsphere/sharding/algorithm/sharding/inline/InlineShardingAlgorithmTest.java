@@ -76,4 +76,25 @@ public final class InlineShardingAlgorithmTest {
         assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
         assertThat(inlineShardingAlgorithmWithSimplified.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
     }
+    
+    @Test
+    public void assertDoShardingWithSameResultAsClosure() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        InlineShardingAlgorithm closureShardingAlgorithm = new InlineShardingAlgorithm();
+        closureShardingAlgorithm.getProps().setProperty("algorithm-expression", "t_order_${(order_id % 4)}");
+        closureShardingAlgorithm.init();
+        for (long each = -8L; each <= 8L; each++) {
+            assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", each)),
+                    is(closureShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", each))));
+        }
+    }
+    
+    @Test
+    public void assertDoShardingWithNonIntegralValue() {
+        InlineShardingAlgorithm shardingAlgorithm = new InlineShardingAlgorithm();
+        shardingAlgorithm.getProps().setProperty("algorithm-expression", "t_order_${order_id}");
+        shardingAlgorithm.init();
+        assertThat(shardingAlgorithm.doSharding(Lists.newArrayList("t_order_a"), new PreciseShardingValue<>("t_order", "order_id", "a")), is("t_order_a"));
+        assertThat(shardingAlgorithm.doSharding(Lists.newArrayList("t_order_b"), new PreciseShardingValue<>("t_order", "order_id", "b")), is("t_order_b"));
+    }
 }
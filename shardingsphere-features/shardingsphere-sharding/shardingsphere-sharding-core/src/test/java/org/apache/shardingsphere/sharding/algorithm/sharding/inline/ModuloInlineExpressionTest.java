@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ModuloInlineExpressionTest {
+    
+    @Test
+    public void assertCompileWithModuloExpression() {
+        assertTrue(ModuloInlineExpression.compile("t_order_${order_id % 4}").isPresent());
+        assertTrue(ModuloInlineExpression.compile("ds_${ user_id % 16 }_suffix").isPresent());
+    }
+    
+    @Test
+    public void assertCompileWithoutModuloExpression() {
+        assertFalse(ModuloInlineExpression.compile("t_order_${order_id.hashCode() % 4}").isPresent());
+        assertFalse(ModuloInlineExpression.compile("t_order_${order_id % 4}_${user_id % 2}").isPresent());
+        assertFalse(ModuloInlineExpression.compile("t_order_${order_id}").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluate() {
+        ModuloInlineExpression expression = ModuloInlineExpression.compile("t_order_${order_id % 4}").get();
+        assertThat(expression.evaluate("order_id", 5).get(), is("t_order_1"));
+        assertThat(expression.evaluate("order_id", 6L).get(), is("t_order_2"));
+        assertThat(expression.evaluate("order_id", (short) 7).get(), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertEvaluateWithNegativeValue() {
+        assertThat(ModuloInlineExpression.compile("t_order_${order_id % 4}").get().evaluate("order_id", -5).get(), is("t_order_-1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        ModuloInlineExpression expression = ModuloInlineExpression.compile("t_order_${order_id % 4}").get();
+        assertThat(expression.evaluate("order_id", "5"), is(Optional.empty()));
+        assertThat(expression.evaluate("order_id", 5.5D), is(Optional.empty()));
+        assertThat(expression.evaluate("user_id", 5), is(Optional.empty()));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AccumulationAggregationUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByHashTableTest {
+    
+    @Test
+    public void assertGetOrCreate() throws SQLException {
+        GroupByHashTable groupByHashTable = createGroupByHashTable();
+        assertTrue(groupByHashTable.isEmpty());
+        GroupByHashEntry entry = groupByHashTable.getOrCreate(mockQueryResult("foo"));
+        assertThat(entry.getGroupValues(), is(new Object[]{"foo"}));
+        assertThat(entry.getAggregationUnits().length, is(1));
+        assertThat(entry.getAggregationUnits()[0], instanceOf(AccumulationAggregationUnit.class));
+        assertThat(groupByHashTable.getOrCreate(mockQueryResult("foo")), sameInstance(entry));
+        assertThat(groupByHashTable.getOrCreate(mockQueryResult("bar")), not(sameInstance(entry)));
+        assertFalse(groupByHashTable.isEmpty());
+        assertThat(groupByHashTable.getEntries().size(), is(2));
+    }
+    
+    @Test
+    public void assertGetOrCreateWithNullValueAndResize() throws SQLException {
+        GroupByHashTable groupByHashTable = createGroupByHashTable();
+        GroupByHashEntry nullEntry = groupByHashTable.getOrCreate(mockQueryResult(null));
+        for (int i = 0; i < 5000; i++) {
+            groupByHashTable.getOrCreate(mockQueryResult(i));
+        }
+        assertThat(groupByHashTable.getEntries().size(), is(5001));
+        assertThat(groupByHashTable.getOrCreate(mockQueryResult(null)), sameInstance(nullEntry));
+        assertThat(groupByHashTable.getOrCreate(mockQueryResult(4999)).getGroupValues(), is(new Object[]{4999}));
+        assertThat(groupByHashTable.getEntries().size(), is(5001));
+    }
+    
+    @Test
+    public void assertFind() throws SQLException {
+        GroupByHashTable groupByHashTable = createGroupByHashTable();
+        assertFalse(groupByHashTable.find(mockQueryResult("foo")).isPresent());
+        GroupByHashEntry entry = groupByHashTable.getOrCreate(mockQueryResult("foo"));
+        assertThat(groupByHashTable.find(mockQueryResult("foo")).get(), sameInstance(entry));
+        assertFalse(groupByHashTable.find(mockQueryResult("bar")).isPresent());
+        assertThat(groupByHashTable.getEntries().size(), is(1));
+        assertTrue(groupByHashTable.getEstimatedSize() > 0L);
+    }
+    
+    private GroupByHashTable createGroupByHashTable() {
+        OrderByItem groupByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        groupByItem.setIndex(1);
+        AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        aggregationProjection.setIndex(2);
+        return new GroupByHashTable(Collections.singletonList(groupByItem), Collections.singletonList(aggregationProjection));
+    }
+    
+    private QueryResult mockQueryResult(final Object groupByValue) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnCount()).thenReturn(2);
+        when(result.getMetaData()).thenReturn(queryResultMetaData);
+        when(result.getValue(1, Object.class)).thenReturn(groupByValue);
+        when(result.getValue(2, Object.class)).thenReturn(1);
+        return result;
+    }
+}
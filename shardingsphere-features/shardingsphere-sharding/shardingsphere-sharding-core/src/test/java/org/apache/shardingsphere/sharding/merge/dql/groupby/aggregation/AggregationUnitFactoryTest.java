@@ -52,6 +52,12 @@ public final class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true), instanceOf(DistinctCountAggregationUnit.class));
     }
     
+    @Test
+    public void assertCreateApproximateDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, true), instanceOf(ApproximateDistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, true), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
     @Test
     public void assertCreateDistinctAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, true), instanceOf(DistinctAverageAggregationUnit.class));
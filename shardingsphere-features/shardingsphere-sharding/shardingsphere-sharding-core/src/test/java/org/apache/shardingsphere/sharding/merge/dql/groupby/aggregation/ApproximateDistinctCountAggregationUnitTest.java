@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public final class ApproximateDistinctCountAggregationUnitTest {
+    
+    @Test
+    public void assertExactDistinctCountAggregation() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(10));
+        assertThat(((Number) aggregationUnit.getResult()).intValue(), is(2));
+    }
+    
+    @Test
+    public void assertApproximateDistinctCountAggregation() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 50000; i++) {
+            aggregationUnit.merge(Collections.singletonList(i % 10000));
+        }
+        assertEquals(10000D, ((Number) aggregationUnit.getResult()).doubleValue(), 300D);
+    }
+}
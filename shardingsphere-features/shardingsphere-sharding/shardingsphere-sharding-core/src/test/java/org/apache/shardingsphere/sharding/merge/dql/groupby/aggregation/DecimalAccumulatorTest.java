@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class DecimalAccumulatorTest {
+    
+    @Test
+    public void assertGetResultWithoutValue() {
+        assertNull(new DecimalAccumulator().getResult());
+    }
+    
+    @Test
+    public void assertAddIntegralValues() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(1);
+        accumulator.add(2L);
+        accumulator.add((short) 3);
+        assertThat(accumulator.getResult(), is(new BigDecimal("6")));
+    }
+    
+    @Test
+    public void assertAddDecimalValues() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(1);
+        accumulator.add(new BigDecimal("1.50"));
+        accumulator.add(2.25D);
+        accumulator.add(1L);
+        assertThat(accumulator.getResult(), is(new BigDecimal("5.75")));
+    }
+    
+    @Test
+    public void assertAddWithLongOverflow() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(Long.MAX_VALUE);
+        accumulator.add(1L);
+        assertThat(accumulator.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class HyperLogLogTest {
+    
+    @Test
+    public void assertEstimate() {
+        HyperLogLog hyperLogLog = new HyperLogLog(14);
+        for (int i = 0; i < 100000; i++) {
+            hyperLogLog.offer(i);
+            hyperLogLog.offer((long) i);
+        }
+        assertEquals(100000D, hyperLogLog.estimate(), 3000D);
+    }
+    
+    @Test
+    public void assertMerge() {
+        HyperLogLog first = new HyperLogLog(14);
+        HyperLogLog second = new HyperLogLog(14);
+        for (int i = 0; i < 60000; i++) {
+            first.offer("user_" + i);
+            second.offer("user_" + (i + 40000));
+        }
+        first.merge(second);
+        assertEquals(100000D, first.estimate(), 3000D);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertMergeWithDifferentPrecision() {
+        new HyperLogLog(14).merge(new HyperLogLog(12));
+    }
+}
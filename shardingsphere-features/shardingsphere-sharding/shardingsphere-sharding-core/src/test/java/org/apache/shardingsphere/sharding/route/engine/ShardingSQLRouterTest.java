@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingSQLRouterTest extends AbstractRoutingEngineTest {
+    
+    private static final String SINGLE_ROUTE_SQL = "SELECT * FROM t_order WHERE user_id = ?";
+    
+    private static final int ROUTE_CACHE_MAX_SIZE = 16;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ConfigurationProperties props;
+    
+    @Before
+    public void setUp() {
+        shardingRule = createAllShardingRule();
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("t_order", new TableMetaData("t_order", Arrays.asList(
+                new ColumnMetaData("order_id", Types.INTEGER, true, false, false), new ColumnMetaData("user_id", Types.INTEGER, false, false, false)), Collections.emptySet())));
+        metaData = new ShardingSphereMetaData("sharding_db", mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS),
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(shardingRule)), schema);
+        Properties properties = new Properties();
+        properties.setProperty(ConfigurationPropertyKey.SQL_ROUTE_CACHE_MAX_SIZE.getKey(), String.valueOf(ROUTE_CACHE_MAX_SIZE));
+        props = new ConfigurationProperties(properties);
+    }
+    
+    @Test
+    public void assertCreateRouteContextFromRouteCache() {
+        RouteContext actual = createRouteContext(SINGLE_ROUTE_SQL, 1);
+        assertRouteUnit(actual, "ds_1", "t_order_1");
+        assertTrue(getRouteCache().get(createRouteCacheKey(1)).isPresent());
+        putCachedRoute(1, "ds_0", "t_order_0");
+        assertRouteUnit(createRouteContext(SINGLE_ROUTE_SQL, 1), "ds_0", "t_order_0");
+    }
+    
+    @Test
+    public void assertCreateRouteContextWithHintBypassRouteCache() {
+        putCachedRoute(1, "ds_0", "t_order_0");
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setWriteRouteOnly();
+            assertRouteUnit(createRouteContext(SINGLE_ROUTE_SQL, 1), "ds_1", "t_order_1");
+        }
+    }
+    
+    @Test
+    public void assertCreateRouteContextWithMultipleRoutesBypassRouteCache() {
+        String sql = "SELECT * FROM t_order WHERE user_id IN (?, ?)";
+        assertThat(createRouteContext(sql, 1, 2).getRouteUnits().size(), is(4));
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("user_id", "t_order", Arrays.asList(1, 2)));
+        assertFalse(getRouteCache().get(ShardingRouteCacheKey.newInstance(sql, new ShardingConditions(new LinkedList<>(Collections.singleton(shardingCondition)))).get()).isPresent());
+        assertThat(createRouteContext(sql, 1, 2).getRouteUnits().size(), is(4));
+    }
+    
+    private RouteContext createRouteContext(final String sql, final Object... parameters) {
+        List<Object> params = Arrays.asList(parameters);
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(
+                Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), params, new SQLStatementParserEngine("MySQL").parse(sql, false), DefaultSchema.LOGIC_NAME);
+        return new ShardingSQLRouter().createRouteContext(new LogicSQL(sqlStatementContext, sql, params), metaData, shardingRule, props);
+    }
+    
+    private ShardingRouteCache getRouteCache() {
+        return shardingRule.getRouteCache(ROUTE_CACHE_MAX_SIZE, metaData.getSchema());
+    }
+    
+    private ShardingRouteCacheKey createRouteCacheKey(final int userId) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("user_id", "t_order", Collections.singleton(userId)));
+        return ShardingRouteCacheKey.newInstance(SINGLE_ROUTE_SQL, new ShardingConditions(new LinkedList<>(Collections.singleton(shardingCondition)))).get();
+    }
+    
+    private void putCachedRoute(final int userId, final String dataSourceName, final String actualTableName) {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper(dataSourceName, dataSourceName), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        getRouteCache().put(createRouteCacheKey(userId), new ShardingRouteCacheValue(routeContext));
+    }
+    
+    private void assertRouteUnit(final RouteContext actual, final String dataSourceName, final String actualTableName) {
+        assertThat(actual.getRouteUnits().size(), is(1));
+        RouteUnit actualRouteUnit = actual.getRouteUnits().iterator().next();
+        assertThat(actualRouteUnit.getDataSourceMapper().getActualName(), is(dataSourceName));
+        assertThat(actualRouteUnit.getActualTableNames("t_order"), is(Collections.singleton(actualTableName)));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingRouteCacheKeyTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    @Test
+    public void assertNewInstanceWithSameShardingValues() {
+        assertThat(ShardingRouteCacheKey.newInstance(SQL, createShardingConditions(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(1L)))).get(),
+                is(ShardingRouteCacheKey.newInstance(SQL, createShardingConditions(new ListShardingConditionValue<>("order_id", "t_order", Collections.singletonList(1L)))).get()));
+    }
+    
+    @Test
+    public void assertNewInstanceWithDifferentShardingValues() {
+        assertThat(ShardingRouteCacheKey.newInstance(SQL, createShardingConditions(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(1L)))).get(),
+                not(ShardingRouteCacheKey.newInstance(SQL, createShardingConditions(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(2L)))).get()));
+    }
+    
+    @Test
+    public void assertNewInstanceWithRangeShardingValue() {
+        assertFalse(ShardingRouteCacheKey.newInstance(SQL, createShardingConditions(new RangeShardingConditionValue<>("order_id", "t_order", Range.closed(1L, 2L)))).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutShardingConditions() {
+        assertFalse(ShardingRouteCacheKey.newInstance(SQL, new ShardingConditions(new LinkedList<>())).isPresent());
+    }
+    
+    private ShardingConditions createShardingConditions(final ShardingConditionValue shardingConditionValue) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(shardingConditionValue);
+        return new ShardingConditions(new LinkedList<>(Collections.singleton(shardingCondition)));
+    }
+}
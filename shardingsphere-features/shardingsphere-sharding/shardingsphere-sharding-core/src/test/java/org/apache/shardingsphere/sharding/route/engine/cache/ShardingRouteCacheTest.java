@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingRouteCacheTest {
+    
+    @Test
+    public void assertGetAndPut() {
+        ShardingRouteCache routeCache = new ShardingRouteCache(16, new ShardingSphereSchema());
+        ShardingRouteCacheKey key = createKey(1L);
+        assertFalse(routeCache.get(key).isPresent());
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), new LinkedList<>(Collections.singleton(new RouteMapper("t_order", "t_order_1")))));
+        routeCache.put(key, new ShardingRouteCacheValue(routeContext));
+        routeContext.getRouteUnits().clear();
+        assertTrue(routeCache.get(createKey(1L)).isPresent());
+        RouteContext actual = new RouteContext();
+        routeCache.get(key).get().fill(actual);
+        assertThat(actual.getRouteUnits().size(), is(1));
+        RouteUnit actualRouteUnit = actual.getRouteUnits().iterator().next();
+        assertThat(actualRouteUnit.getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(actualRouteUnit.getActualTableNames("t_order"), is(Collections.singleton("t_order_1")));
+        assertFalse(routeCache.get(createKey(2L)).isPresent());
+    }
+    
+    private ShardingRouteCacheKey createKey(final long orderId) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(orderId)));
+        return ShardingRouteCacheKey.newInstance("SELECT * FROM t_order WHERE order_id = ?", new ShardingConditions(new LinkedList<>(Collections.singleton(shardingCondition)))).get();
+    }
+}
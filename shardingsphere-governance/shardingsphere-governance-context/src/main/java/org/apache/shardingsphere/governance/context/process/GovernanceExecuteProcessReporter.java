@@ -17,11 +17,8 @@
 
 package org.apache.shardingsphere.governance.context.process;
 
-import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessReportEvent;
-import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessSummaryReportEvent;
-import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessUnitReportEvent;
+import org.apache.shardingsphere.governance.core.registry.process.ExecuteProcessRegistry;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
-import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
@@ -36,18 +33,16 @@ public final class GovernanceExecuteProcessReporter implements ExecuteProcessRep
     
     @Override
     public void report(final LogicSQL logicSQL, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessConstants constants) {
-        ExecuteProcessContext executeProcessContext = new ExecuteProcessContext(logicSQL.getSql(), executionGroupContext, constants);
-        ShardingSphereEventBus.getInstance().post(new ExecuteProcessSummaryReportEvent(executeProcessContext));
+        ExecuteProcessRegistry.getInstance().register(new ExecuteProcessContext(logicSQL.getSql(), executionGroupContext, constants));
     }
     
     @Override
     public void report(final String executionID, final SQLExecutionUnit executionUnit, final ExecuteProcessConstants constants) {
-        ExecuteProcessUnit executeProcessUnit = new ExecuteProcessUnit(executionUnit.getExecutionUnit(), constants);
-        ShardingSphereEventBus.getInstance().post(new ExecuteProcessUnitReportEvent(executionID, executeProcessUnit));
+        ExecuteProcessRegistry.getInstance().updateUnitStatus(executionID, new ExecuteProcessUnit(executionUnit.getExecutionUnit(), constants));
     }
     
     @Override
     public void report(final String executionID, final ExecuteProcessConstants constants) {
-        ShardingSphereEventBus.getInstance().post(new ExecuteProcessReportEvent(executionID));
+        ExecuteProcessRegistry.getInstance().unregister(executionID);
     }
 }
@@ -173,6 +173,7 @@ public final class GovernanceMetaDataContextsTest {
         governanceMetaDataContexts.renew(event);
         assertTrue(governanceMetaDataContexts.getAllSchemaNames().contains("schema"));
         assertFalse(governanceMetaDataContexts.getAllSchemaNames().contains("schema_changed"));
+        assertFalse(governanceMetaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemas().containsKey("schema_changed"));
     }
     
     @Test
@@ -180,6 +181,7 @@ public final class GovernanceMetaDataContextsTest {
         SchemaChangedEvent event = new SchemaChangedEvent("schema", mock(ShardingSphereSchema.class));
         governanceMetaDataContexts.renew(event);
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
+        assertTrue(governanceMetaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemas().containsKey("schema"));
     }
     
     @Test
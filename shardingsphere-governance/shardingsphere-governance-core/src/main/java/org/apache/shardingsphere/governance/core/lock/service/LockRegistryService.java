@@ -19,24 +19,35 @@ package org.apache.shardingsphere.governance.core.lock.service;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.governance.core.GovernanceInstance;
 import org.apache.shardingsphere.governance.core.registry.state.node.StatesNode;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * Lock registry service.
  */
+@Slf4j
 public final class LockRegistryService {
     
-    private static final int CHECK_ACK_INTERVAL_SECONDS = 1;
-    
     private final String instanceId;
     
     private final RegistryCenterRepository repository;
     
+    private final Set<LockAckWaiter> lockAckWaiters = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicBoolean lockAckWatched = new AtomicBoolean();
+    
     public LockRegistryService(final RegistryCenterRepository repository) {
         instanceId = GovernanceInstance.getInstance().getId();
         this.repository = repository;
@@ -74,7 +85,7 @@ public final class LockRegistryService {
      * @param lockName lock name
      */
     public void ackLock(final String lockName) {
-        repository.persistEphemeral(LockNode.getLockedAckNodePath(Joiner.on("-").join(instanceId, lockName)), LockAck.LOCKED.name());
+        repository.persistEphemeral(getLockedAckNodePath(instanceId, lockName), LockAck.LOCKED.name());
     }
     
     /**
@@ -83,7 +94,7 @@ public final class LockRegistryService {
      * @param lockName lock name
      */
     public void ackUnlock(final String lockName) {
-        repository.persistEphemeral(LockNode.getLockedAckNodePath(Joiner.on("-").join(instanceId, lockName)), LockAck.UNLOCKED.name());
+        repository.persistEphemeral(getLockedAckNodePath(instanceId, lockName), LockAck.UNLOCKED.name());
     }
     
     /**
@@ -92,7 +103,7 @@ public final class LockRegistryService {
      * @param lockName lock name
      */
     public void deleteLockAck(final String lockName) {
-        repository.delete(LockNode.getLockedAckNodePath(Joiner.on("-").join(instanceId, lockName)));
+        repository.delete(getLockedAckNodePath(instanceId, lockName));
     }
     
     /**
@@ -111,29 +122,79 @@ public final class LockRegistryService {
     }
     
     private boolean checkAck(final String lockName, final String ackValue, final long timeoutMilliseconds) {
-        Collection<String> instanceIds = repository.getChildrenKeys(StatesNode.getProxyNodesPath());
-        long checkMilliseconds = timeoutMilliseconds;
-        while (checkMilliseconds > 0) {
-            long start = System.currentTimeMillis();
-            if (check(instanceIds, lockName, ackValue)) {
-                return true;
-            }
-            try {
-                Thread.sleep(CHECK_ACK_INTERVAL_SECONDS * 1000L);
-                // CHECKSTYLE:OFF
-            } catch (final InterruptedException ex) {
-                // CHECKSTYLE:ON
-            }
-            checkMilliseconds -= System.currentTimeMillis() - start;
+        watchLockAck();
+        long startMillis = System.currentTimeMillis();
+        Collection<String> ackNodePaths = repository.getChildrenKeys(StatesNode.getProxyNodesPath()).stream().map(each -> getLockedAckNodePath(each, lockName)).collect(Collectors.toList());
+        LockAckWaiter waiter = new LockAckWaiter(ackValue, ackNodePaths);
+        lockAckWaiters.add(waiter);
+        try {
+            loadLockAcks(waiter);
+            boolean result = waiter.await(timeoutMilliseconds) || loadLockAcks(waiter);
+            log.info("Check {} ack of lock {} from {} instances {}, cost {} ms.", ackValue, lockName, ackNodePaths.size(), result ? "succeeded" : "failed", System.currentTimeMillis() - startMillis);
+            return result;
+        } finally {
+            lockAckWaiters.remove(waiter);
+        }
+    }
+    
+    private void watchLockAck() {
+        if (lockAckWatched.compareAndSet(false, true)) {
+            repository.watch(LockNode.getLockedAckRootNodePah(), event -> {
+                if (DataChangedEvent.Type.DELETED != event.getType()) {
+                    lockAckWaiters.forEach(each -> each.ack(event.getKey(), event.getValue()));
+                }
+            });
         }
-        return false;
     }
     
-    private boolean check(final Collection<String> instanceIds, final String lockName, final String ackValue) {
-        return instanceIds.stream().allMatch(each -> ackValue.equalsIgnoreCase(loadLockAck(each, lockName)));
+    private boolean loadLockAcks(final LockAckWaiter waiter) {
+        for (String each : waiter.getPendingAckNodePaths()) {
+            waiter.ack(each, repository.get(each));
+        }
+        return waiter.isAllAcked();
     }
     
-    private String loadLockAck(final String instanceId, final String lockName) {
-        return Strings.nullToEmpty(repository.get(LockNode.getLockedAckNodePath(Joiner.on("-").join(instanceId, lockName))));
+    private String getLockedAckNodePath(final String instanceId, final String lockName) {
+        return LockNode.getLockedAckNodePath(Joiner.on("-").join(instanceId, lockName));
+    }
+    
+    private static final class LockAckWaiter {
+        
+        private final String ackValue;
+        
+        private final Set<String> pendingAckNodePaths = ConcurrentHashMap.newKeySet();
+        
+        private final CountDownLatch ackLatch = new CountDownLatch(1);
+        
+        LockAckWaiter(final String ackValue, final Collection<String> ackNodePaths) {
+            this.ackValue = ackValue;
+            pendingAckNodePaths.addAll(ackNodePaths);
+            if (pendingAckNodePaths.isEmpty()) {
+                ackLatch.countDown();
+            }
+        }
+        
+        Collection<String> getPendingAckNodePaths() {
+            return new ArrayList<>(pendingAckNodePaths);
+        }
+        
+        void ack(final String ackNodePath, final String value) {
+            if (ackValue.equalsIgnoreCase(Strings.nullToEmpty(value)) && pendingAckNodePaths.remove(ackNodePath) && pendingAckNodePaths.isEmpty()) {
+                ackLatch.countDown();
+            }
+        }
+        
+        boolean isAllAcked() {
+            return 0 == ackLatch.getCount();
+        }
+        
+        boolean await(final long timeoutMilliseconds) {
+            try {
+                return ackLatch.await(timeoutMilliseconds, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return isAllAcked();
+            }
+        }
     }
 }
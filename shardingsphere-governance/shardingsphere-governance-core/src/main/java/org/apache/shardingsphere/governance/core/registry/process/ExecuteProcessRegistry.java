@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.process;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Execute process registry, which holds execute processes running on current instance in memory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecuteProcessRegistry {
+    
+    private static final ExecuteProcessRegistry INSTANCE = new ExecuteProcessRegistry();
+    
+    private final Map<String, ExecuteProcessContext> executeProcessContexts = new ConcurrentHashMap<>();
+    
+    /**
+     * Get execute process registry.
+     * 
+     * @return execute process registry
+     */
+    public static ExecuteProcessRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register execute process.
+     * 
+     * @param executeProcessContext execute process context
+     */
+    public void register(final ExecuteProcessContext executeProcessContext) {
+        executeProcessContexts.put(executeProcessContext.getExecutionID(), executeProcessContext);
+    }
+    
+    /**
+     * Update status of execute process unit.
+     * 
+     * @param executionID execution ID
+     * @param executeProcessUnit execute process unit
+     */
+    public void updateUnitStatus(final String executionID, final ExecuteProcessUnit executeProcessUnit) {
+        ExecuteProcessContext executeProcessContext = executeProcessContexts.get(executionID);
+        if (null == executeProcessContext) {
+            return;
+        }
+        for (ExecuteProcessUnit each : executeProcessContext.getUnitStatuses()) {
+            if (each.getUnitID().equals(executeProcessUnit.getUnitID())) {
+                each.setStatus(executeProcessUnit.getStatus());
+            }
+        }
+    }
+    
+    /**
+     * Unregister execute process.
+     * 
+     * @param executionID execution ID
+     */
+    public void unregister(final String executionID) {
+        executeProcessContexts.remove(executionID);
+    }
+    
+    /**
+     * Get snapshots of running execute processes.
+     * 
+     * @return snapshots of running execute processes
+     */
+    public Collection<YamlExecuteProcessContext> getSnapshots() {
+        return executeProcessContexts.values().stream().map(YamlExecuteProcessContext::new).collect(Collectors.toList());
+    }
+}
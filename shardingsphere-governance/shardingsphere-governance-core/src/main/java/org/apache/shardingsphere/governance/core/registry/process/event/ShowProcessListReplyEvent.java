@@ -19,13 +19,14 @@ package org.apache.shardingsphere.governance.core.registry.process.event;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.governance.core.registry.GovernanceEvent;
 
 /**
- * Execute process report event.
+ * Show process list reply event.
  */
 @RequiredArgsConstructor
 @Getter
-public final class ExecuteProcessReportEvent {
+public final class ShowProcessListReplyEvent implements GovernanceEvent {
     
-    private final String executionID;
+    private final String taskId;
 }
@@ -19,14 +19,14 @@ package org.apache.shardingsphere.governance.core.registry.process.event;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.governance.core.registry.GovernanceEvent;
 
 /**
- * Execute process summary report event.
+ * Show process list trigger event.
  */
 @RequiredArgsConstructor
 @Getter
-public final class ExecuteProcessSummaryReportEvent {
+public final class ShowProcessListTriggerEvent implements GovernanceEvent {
     
-    private final ExecuteProcessContext executeProcessContext;
+    private final String taskId;
 }
@@ -21,6 +21,10 @@ import com.google.common.base.Joiner;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Process node.
  */
@@ -29,6 +33,8 @@ public final class ProcessNode {
     
     private static final String EXECUTION_NODE_NAME = "executionnodes";
     
+    private static final String PROCESS_TRIGGER_NODE_NAME = "processtrigger";
+    
     /**
      * Get execution nodes path.
      *
@@ -39,12 +45,68 @@ public final class ProcessNode {
     }
     
     /**
-     * Get execution path.
+     * Get execution nodes path of show process list task.
+     *
+     * @param taskId show process list task id
+     * @return execution nodes path of show process list task
+     */
+    public static String getExecutionNodesPath(final String taskId) {
+        return Joiner.on("/").join("", EXECUTION_NODE_NAME, taskId);
+    }
+    
+    /**
+     * Get execution path of instance replied show process list task.
      *
-     * @param executionId execution id
+     * @param taskId show process list task id
+     * @param instanceId instance id
      * @return execution path
      */
-    public static String getExecutionPath(final String executionId) {
-        return Joiner.on("/").join("", EXECUTION_NODE_NAME, executionId);
+    public static String getExecutionPath(final String taskId, final String instanceId) {
+        return Joiner.on("/").join("", EXECUTION_NODE_NAME, taskId, instanceId);
+    }
+    
+    /**
+     * Get process trigger instance path.
+     *
+     * @param instanceId instance id
+     * @return process trigger instance path
+     */
+    public static String getProcessTriggerInstancePath(final String instanceId) {
+        return Joiner.on("/").join("", PROCESS_TRIGGER_NODE_NAME, instanceId);
+    }
+    
+    /**
+     * Get process trigger path.
+     *
+     * @param instanceId instance id
+     * @param taskId show process list task id
+     * @return process trigger path
+     */
+    public static String getProcessTriggerPath(final String instanceId, final String taskId) {
+        return Joiner.on("/").join("", PROCESS_TRIGGER_NODE_NAME, instanceId, taskId);
+    }
+    
+    /**
+     * Get show process list task id by process trigger path.
+     *
+     * @param processTriggerPath process trigger path
+     * @return show process list task id
+     */
+    public static Optional<String> getTriggerTaskId(final String processTriggerPath) {
+        Pattern pattern = Pattern.compile(Joiner.on("/").join("", PROCESS_TRIGGER_NODE_NAME) + "/([^/]+)/([^/]+)$");
+        Matcher matcher = pattern.matcher(processTriggerPath);
+        return matcher.find() ? Optional.of(matcher.group(2)) : Optional.empty();
+    }
+    
+    /**
+     * Get show process list task id by execution path.
+     *
+     * @param executionPath execution path
+     * @return show process list task id
+     */
+    public static Optional<String> getExecutionTaskId(final String executionPath) {
+        Pattern pattern = Pattern.compile(getExecutionNodesPath() + "/([^/]+)/([^/]+)$");
+        Matcher matcher = pattern.matcher(executionPath);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
     }
 }
@@ -18,34 +18,48 @@
 package org.apache.shardingsphere.governance.core.registry.process.subscriber;
 
 import com.google.common.eventbus.Subscribe;
-import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessReportEvent;
-import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessSummaryReportEvent;
-import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessUnitReportEvent;
+import org.apache.shardingsphere.governance.core.GovernanceInstance;
+import org.apache.shardingsphere.governance.core.registry.process.ExecuteProcessRegistry;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListReplyEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListRequestEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListResponseEvent;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListTriggerEvent;
 import org.apache.shardingsphere.governance.core.registry.process.node.ProcessNode;
+import org.apache.shardingsphere.governance.core.registry.state.node.StatesNode;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.BatchYamlExecuteProcessContext;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Process registry subscriber.
+ * 
+ * <p>Execute processes are kept in memory of the instance running them. Show process list triggers other instances through registry center,
+ * and each triggered instance replies its in memory execute processes once.</p>
  */
 public final class ProcessRegistrySubscriber {
     
+    private static final long REPLY_TIMEOUT_MILLISECONDS = 5000L;
+    
     private final RegistryCenterRepository repository;
     
+    private final String instanceId;
+    
+    private final Map<String, CountDownLatch> replyLatches = new ConcurrentHashMap<>();
+    
     public ProcessRegistrySubscriber(final RegistryCenterRepository repository) {
         this.repository = repository;
+        instanceId = GovernanceInstance.getInstance().getId();
         ShardingSphereEventBus.getInstance().register(this);
     }
     
@@ -56,57 +70,59 @@ public final class ProcessRegistrySubscriber {
      */
     @Subscribe
     public void loadShowProcessListData(final ShowProcessListRequestEvent event) {
-        List<String> childrenKeys = repository.getChildrenKeys(ProcessNode.getExecutionNodesPath());
-        Collection<String> processListData = childrenKeys.stream().map(key -> repository.get(ProcessNode.getExecutionPath(key))).collect(Collectors.toList());
+        Collection<String> processListData = ExecuteProcessRegistry.getInstance().getSnapshots().stream().map(YamlEngine::marshal).collect(Collectors.toCollection(LinkedList::new));
+        Collection<String> otherInstanceIds = repository.getChildrenKeys(StatesNode.getProxyNodesPath()).stream().filter(each -> !instanceId.equals(each)).collect(Collectors.toList());
+        if (!otherInstanceIds.isEmpty()) {
+            processListData.addAll(loadProcessListData(UUID.randomUUID().toString().replace("-", ""), otherInstanceIds));
+        }
         ShardingSphereEventBus.getInstance().post(new ShowProcessListResponseEvent(processListData));
     }
     
-    /**
-     * Report execute process summary.
-     *
-     * @param event execute process summary report event.
-     */
-    @Subscribe
-    public void reportExecuteProcessSummary(final ExecuteProcessSummaryReportEvent event) {
-        ExecuteProcessContext executeProcessContext = event.getExecuteProcessContext();
-        repository.persist(ProcessNode.getExecutionPath(executeProcessContext.getExecutionID()), YamlEngine.marshal(new YamlExecuteProcessContext(executeProcessContext)));
+    private Collection<String> loadProcessListData(final String taskId, final Collection<String> instanceIds) {
+        CountDownLatch replyLatch = new CountDownLatch(instanceIds.size());
+        replyLatches.put(taskId, replyLatch);
+        try {
+            instanceIds.forEach(each -> repository.persistEphemeral(ProcessNode.getProcessTriggerPath(each, taskId), ""));
+            awaitReplies(replyLatch);
+            return instanceIds.stream().map(each -> repository.get(ProcessNode.getExecutionPath(taskId, each))).filter(Objects::nonNull)
+                    .flatMap(each -> YamlEngine.unmarshal(each, BatchYamlExecuteProcessContext.class).getContexts().stream()).map(YamlEngine::marshal).collect(Collectors.toList());
+        } finally {
+            replyLatches.remove(taskId);
+            instanceIds.forEach(each -> repository.delete(ProcessNode.getProcessTriggerPath(each, taskId)));
+            repository.delete(ProcessNode.getExecutionNodesPath(taskId));
+        }
+    }
+    
+    private void awaitReplies(final CountDownLatch replyLatch) {
+        try {
+            replyLatch.await(REPLY_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
     }
     
     /**
-     * Report execute process unit.
+     * Reply show process list with execute processes of current instance.
      *
-     * @param event execute process unit report event.
+     * @param event show process list trigger event
      */
     @Subscribe
-    public void reportExecuteProcessUnit(final ExecuteProcessUnitReportEvent event) {
-        String executionID = event.getExecutionID();
-        synchronized (executionID) {
-            String executionPath = ProcessNode.getExecutionPath(executionID);
-            YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(repository.get(executionPath), YamlExecuteProcessContext.class);
-            ExecuteProcessUnit executeProcessUnit = event.getExecuteProcessUnit();
-            for (YamlExecuteProcessUnit unit : yamlExecuteProcessContext.getUnitStatuses()) {
-                if (unit.getUnitID().equals(executeProcessUnit.getUnitID())) {
-                    unit.setStatus(executeProcessUnit.getStatus());
-                }
-            }
-            repository.persist(executionPath, YamlEngine.marshal(yamlExecuteProcessContext));
-        }
+    public void replyShowProcessList(final ShowProcessListTriggerEvent event) {
+        String processListData = YamlEngine.marshal(new BatchYamlExecuteProcessContext(ExecuteProcessRegistry.getInstance().getSnapshots()));
+        repository.persistEphemeral(ProcessNode.getExecutionPath(event.getTaskId(), instanceId), processListData);
+        repository.delete(ProcessNode.getProcessTriggerPath(instanceId, event.getTaskId()));
     }
     
     /**
-     * Report execute process.
+     * Receive show process list reply.
      *
-     * @param event execute process report event.
+     * @param event show process list reply event
      */
     @Subscribe
-    public void reportExecuteProcess(final ExecuteProcessReportEvent event) {
-        String executionPath = ProcessNode.getExecutionPath(event.getExecutionID());
-        YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(repository.get(executionPath), YamlExecuteProcessContext.class);
-        for (YamlExecuteProcessUnit unit : yamlExecuteProcessContext.getUnitStatuses()) {
-            if (unit.getStatus() != ExecuteProcessConstants.EXECUTE_STATUS_DONE) {
-                return;
-            }
+    public void receiveShowProcessListReply(final ShowProcessListReplyEvent event) {
+        CountDownLatch replyLatch = replyLatches.get(event.getTaskId());
+        if (null != replyLatch) {
+            replyLatch.countDown();
         }
-        repository.delete(executionPath);
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.process.watcher;
+
+import org.apache.shardingsphere.governance.core.GovernanceInstance;
+import org.apache.shardingsphere.governance.core.registry.GovernanceEvent;
+import org.apache.shardingsphere.governance.core.registry.GovernanceWatcher;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListReplyEvent;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.governance.core.registry.process.node.ProcessNode;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Show process list changed watcher.
+ */
+public final class ShowProcessListChangedWatcher implements GovernanceWatcher<GovernanceEvent> {
+    
+    @Override
+    public Collection<String> getWatchingKeys(final Collection<String> schemaNames) {
+        return Arrays.asList(ProcessNode.getProcessTriggerInstancePath(GovernanceInstance.getInstance().getId()), ProcessNode.getExecutionNodesPath());
+    }
+    
+    @Override
+    public Collection<Type> getWatchingTypes() {
+        return Collections.singleton(Type.ADDED);
+    }
+    
+    @Override
+    public Optional<GovernanceEvent> createGovernanceEvent(final DataChangedEvent event) {
+        Optional<String> triggerTaskId = ProcessNode.getTriggerTaskId(event.getKey());
+        if (triggerTaskId.isPresent()) {
+            return Optional.of(new ShowProcessListTriggerEvent(triggerTaskId.get()));
+        }
+        return ProcessNode.getExecutionTaskId(event.getKey()).map(ShowProcessListReplyEvent::new);
+    }
+}
@@ -17,18 +17,34 @@
 
 package org.apache.shardingsphere.governance.core.lock.service;
 
+import org.apache.shardingsphere.governance.core.registry.state.node.StatesNode;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEventListener;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class LockRegistryServiceTest {
@@ -63,4 +79,59 @@ public final class LockRegistryServiceTest {
         lockRegistryService.deleteLockAck("test");
         verify(registryCenterRepository).delete(anyString());
     }
+    
+    @Test
+    public void assertCheckLockAckWithExistedAcks() {
+        when(registryCenterRepository.getChildrenKeys(StatesNode.getProxyNodesPath())).thenReturn(Arrays.asList("instance_1", "instance_2"));
+        when(registryCenterRepository.get(LockNode.getLockedAckNodePath("instance_1-test"))).thenReturn(LockAck.LOCKED.name());
+        when(registryCenterRepository.get(LockNode.getLockedAckNodePath("instance_2-test"))).thenReturn(LockAck.LOCKED.name());
+        assertTrue(lockRegistryService.checkLockAck("test", 50000L));
+        verify(registryCenterRepository).watch(eq(LockNode.getLockedAckRootNodePah()), any());
+        verify(registryCenterRepository, never()).releaseLock(anyString());
+    }
+    
+    @Test
+    public void assertCheckLockAckWithWatchedAcks() {
+        when(registryCenterRepository.getChildrenKeys(StatesNode.getProxyNodesPath())).thenReturn(Arrays.asList("instance_1", "instance_2"));
+        when(registryCenterRepository.get(LockNode.getLockedAckNodePath("instance_1-test"))).thenReturn(LockAck.LOCKED.name());
+        ArgumentCaptor<DataChangedEventListener> listener = ArgumentCaptor.forClass(DataChangedEventListener.class);
+        ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executorService.schedule(() -> {
+                verify(registryCenterRepository).watch(eq(LockNode.getLockedAckRootNodePah()), listener.capture());
+                listener.getValue().onChange(new DataChangedEvent(LockNode.getLockedAckNodePath("instance_2-test"), LockAck.LOCKED.name(), DataChangedEvent.Type.ADDED));
+            }, 100L, TimeUnit.MILLISECONDS);
+            assertTrue(lockRegistryService.checkLockAck("test", 50000L));
+        } finally {
+            executorService.shutdown();
+        }
+        verify(registryCenterRepository, times(1)).get(LockNode.getLockedAckNodePath("instance_2-test"));
+    }
+    
+    @Test
+    public void assertCheckLockAckConcurrentlyWithWatchedAcks() throws InterruptedException, ExecutionException {
+        when(registryCenterRepository.getChildrenKeys(StatesNode.getProxyNodesPath())).thenReturn(Arrays.asList("instance_1", "instance_2"));
+        when(registryCenterRepository.get(LockNode.getLockedAckNodePath("instance_1-test"))).thenReturn(LockAck.LOCKED.name());
+        ArgumentCaptor<DataChangedEventListener> listener = ArgumentCaptor.forClass(DataChangedEventListener.class);
+        ScheduledExecutorService executorService = Executors.newScheduledThreadPool(2);
+        try {
+            Future<Boolean> otherCheckResult = executorService.submit(() -> lockRegistryService.checkLockAck("test", 5000L));
+            executorService.schedule(() -> {
+                verify(registryCenterRepository).watch(eq(LockNode.getLockedAckRootNodePah()), listener.capture());
+                listener.getValue().onChange(new DataChangedEvent(LockNode.getLockedAckNodePath("instance_2-test"), LockAck.LOCKED.name(), DataChangedEvent.Type.ADDED));
+            }, 200L, TimeUnit.MILLISECONDS);
+            assertTrue(lockRegistryService.checkLockAck("test", 5000L));
+            assertTrue(otherCheckResult.get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertCheckLockAckTimeout() {
+        when(registryCenterRepository.getChildrenKeys(StatesNode.getProxyNodesPath())).thenReturn(Arrays.asList("instance_1", "instance_2"));
+        when(registryCenterRepository.get(LockNode.getLockedAckNodePath("instance_1-test"))).thenReturn(LockAck.LOCKED.name());
+        assertFalse(lockRegistryService.checkLockAck("test", 50L));
+        verify(registryCenterRepository).releaseLock(LockNode.getLockNodePath("test"));
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.process;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecuteProcessRegistryTest {
+    
+    private final ExecutionUnit executionUnit0 = new ExecutionUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList()));
+    
+    private final ExecutionUnit executionUnit1 = new ExecutionUnit("ds_1", new SQLUnit("SELECT 2", Collections.emptyList()));
+    
+    private final ExecuteProcessContext executeProcessContext = new ExecuteProcessContext("SELECT 1", createExecutionGroupContext(), ExecuteProcessConstants.EXECUTE_STATUS_START);
+    
+    @After
+    public void tearDown() {
+        ExecuteProcessRegistry.getInstance().unregister(executeProcessContext.getExecutionID());
+    }
+    
+    private ExecutionGroupContext<SQLExecutionUnit> createExecutionGroupContext() {
+        return new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Arrays.asList(createSQLExecutionUnit(executionUnit0), createSQLExecutionUnit(executionUnit1)), "ds")));
+    }
+    
+    private SQLExecutionUnit createSQLExecutionUnit(final ExecutionUnit executionUnit) {
+        SQLExecutionUnit result = mock(SQLExecutionUnit.class);
+        when(result.getExecutionUnit()).thenReturn(executionUnit);
+        return result;
+    }
+    
+    @Test
+    public void assertUpdateUnitStatus() {
+        ExecuteProcessRegistry.getInstance().register(executeProcessContext);
+        ExecuteProcessRegistry.getInstance().updateUnitStatus(executeProcessContext.getExecutionID(), new ExecuteProcessUnit(executionUnit0, ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        Optional<YamlExecuteProcessContext> actual = findSnapshot();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getUnitStatuses().stream().filter(each -> ExecuteProcessConstants.EXECUTE_STATUS_DONE == each.getStatus()).count(), is(1L));
+    }
+    
+    @Test
+    public void assertUnregisterWithUnfinishedUnits() {
+        ExecuteProcessRegistry.getInstance().register(executeProcessContext);
+        ExecuteProcessRegistry.getInstance().updateUnitStatus(executeProcessContext.getExecutionID(), new ExecuteProcessUnit(executionUnit0, ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        ExecuteProcessRegistry.getInstance().unregister(executeProcessContext.getExecutionID());
+        assertFalse(findSnapshot().isPresent());
+    }
+    
+    @Test
+    public void assertUnregisterWithFinishedUnits() {
+        ExecuteProcessRegistry.getInstance().register(executeProcessContext);
+        ExecuteProcessRegistry.getInstance().updateUnitStatus(executeProcessContext.getExecutionID(), new ExecuteProcessUnit(executionUnit0, ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        ExecuteProcessRegistry.getInstance().updateUnitStatus(executeProcessContext.getExecutionID(), new ExecuteProcessUnit(executionUnit1, ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        ExecuteProcessRegistry.getInstance().unregister(executeProcessContext.getExecutionID());
+        assertFalse(findSnapshot().isPresent());
+    }
+    
+    private Optional<YamlExecuteProcessContext> findSnapshot() {
+        return ExecuteProcessRegistry.getInstance().getSnapshots().stream().filter(each -> each.getExecutionID().equals(executeProcessContext.getExecutionID())).findFirst();
+    }
+}
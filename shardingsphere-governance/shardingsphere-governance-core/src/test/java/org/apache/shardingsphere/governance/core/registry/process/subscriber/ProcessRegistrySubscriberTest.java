@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.process.subscriber;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.governance.core.GovernanceInstance;
+import org.apache.shardingsphere.governance.core.registry.process.ExecuteProcessRegistry;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListReplyEvent;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListRequestEvent;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListResponseEvent;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.governance.core.registry.process.node.ProcessNode;
+import org.apache.shardingsphere.governance.core.registry.state.node.StatesNode;
+import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.BatchYamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ProcessRegistrySubscriberTest {
+    
+    private final String instanceId = GovernanceInstance.getInstance().getId();
+    
+    private final ExecuteProcessContext executeProcessContext = new ExecuteProcessContext(
+            "SELECT 1", new ExecutionGroupContext<>(Collections.emptyList()), ExecuteProcessConstants.EXECUTE_STATUS_START);
+    
+    @Mock
+    private RegistryCenterRepository repository;
+    
+    private ProcessRegistrySubscriber subscriber;
+    
+    private Collection<String> actualProcessListData;
+    
+    @Before
+    public void setUp() {
+        ExecuteProcessRegistry.getInstance().register(executeProcessContext);
+        subscriber = new ProcessRegistrySubscriber(repository);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingSphereEventBus.getInstance().unregister(subscriber);
+        ExecuteProcessRegistry.getInstance().unregister(executeProcessContext.getExecutionID());
+    }
+    
+    @Test
+    public void assertLoadShowProcessListDataWithoutOtherInstances() {
+        when(repository.getChildrenKeys(StatesNode.getProxyNodesPath())).thenReturn(Collections.singletonList(instanceId));
+        loadShowProcessListData();
+        assertThat(getExecutionIDs(actualProcessListData), is(Collections.singletonList(executeProcessContext.getExecutionID())));
+        verify(repository, never()).persistEphemeral(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertLoadShowProcessListDataWithOtherInstances() {
+        when(repository.getChildrenKeys(StatesNode.getProxyNodesPath())).thenReturn(Arrays.asList(instanceId, "remote_instance"));
+        YamlExecuteProcessContext remoteProcessContext = new YamlExecuteProcessContext();
+        remoteProcessContext.setExecutionID("remote_execution_id");
+        remoteProcessContext.setUnitStatuses(Collections.emptyList());
+        when(repository.get(startsWith(ProcessNode.getExecutionNodesPath() + "/"))).thenReturn(YamlEngine.marshal(new BatchYamlExecuteProcessContext(Collections.singletonList(remoteProcessContext))));
+        doAnswer(invocation -> {
+            subscriber.receiveShowProcessListReply(new ShowProcessListReplyEvent(ProcessNode.getTriggerTaskId(invocation.getArgument(0)).get()));
+            return null;
+        }).when(repository).persistEphemeral(startsWith(ProcessNode.getProcessTriggerInstancePath("remote_instance") + "/"), eq(""));
+        loadShowProcessListData();
+        assertThat(getExecutionIDs(actualProcessListData), is(Arrays.asList(executeProcessContext.getExecutionID(), "remote_execution_id")));
+        verify(repository).delete(startsWith(ProcessNode.getProcessTriggerInstancePath("remote_instance") + "/"));
+        verify(repository).delete(startsWith(ProcessNode.getExecutionNodesPath() + "/"));
+    }
+    
+    @Test
+    public void assertReplyShowProcessList() {
+        subscriber.replyShowProcessList(new ShowProcessListTriggerEvent("foo_task_id"));
+        String expectedProcessListData = YamlEngine.marshal(new BatchYamlExecuteProcessContext(ExecuteProcessRegistry.getInstance().getSnapshots()));
+        verify(repository).persistEphemeral(ProcessNode.getExecutionPath("foo_task_id", instanceId), expectedProcessListData);
+        verify(repository).delete(ProcessNode.getProcessTriggerPath(instanceId, "foo_task_id"));
+    }
+    
+    private void loadShowProcessListData() {
+        ShardingSphereEventBus.getInstance().register(this);
+        try {
+            subscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(this);
+        }
+    }
+    
+    private Collection<String> getExecutionIDs(final Collection<String> processListData) {
+        return processListData.stream().map(each -> YamlEngine.unmarshal(each, YamlExecuteProcessContext.class).getExecutionID()).collect(Collectors.toList());
+    }
+    
+    /**
+     * Receive show process list response.
+     *
+     * @param event show process list response event
+     */
+    @Subscribe
+    public void receiveShowProcessListResponse(final ShowProcessListResponseEvent event) {
+        actualProcessListData = event.getProcessListData();
+    }
+}
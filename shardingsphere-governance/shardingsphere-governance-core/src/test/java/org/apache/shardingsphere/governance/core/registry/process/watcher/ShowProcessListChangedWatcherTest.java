@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.process.watcher;
+
+import org.apache.shardingsphere.governance.core.GovernanceInstance;
+import org.apache.shardingsphere.governance.core.registry.GovernanceEvent;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListReplyEvent;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.governance.core.registry.process.node.ProcessNode;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShowProcessListChangedWatcherTest {
+    
+    @Test
+    public void assertCreateTriggerEvent() {
+        Optional<GovernanceEvent> actual = new ShowProcessListChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent(ProcessNode.getProcessTriggerPath(GovernanceInstance.getInstance().getId(), "foo_task_id"), "", Type.ADDED));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(ShowProcessListTriggerEvent.class));
+        assertThat(((ShowProcessListTriggerEvent) actual.get()).getTaskId(), is("foo_task_id"));
+    }
+    
+    @Test
+    public void assertCreateReplyEvent() {
+        Optional<GovernanceEvent> actual = new ShowProcessListChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent(ProcessNode.getExecutionPath("foo_task_id", "foo_instance_id"), "", Type.ADDED));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(ShowProcessListReplyEvent.class));
+        assertThat(((ShowProcessListReplyEvent) actual.get()).getTaskId(), is("foo_task_id"));
+    }
+    
+    @Test
+    public void assertCreateEventWithParentPath() {
+        assertFalse(new ShowProcessListChangedWatcher().createGovernanceEvent(new DataChangedEvent(ProcessNode.getExecutionNodesPath("foo_task_id"), "", Type.ADDED)).isPresent());
+        assertFalse(new ShowProcessListChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent(ProcessNode.getProcessTriggerInstancePath(GovernanceInstance.getInstance().getId()), "", Type.ADDED)).isPresent());
+    }
+}
@@ -43,6 +43,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     EXECUTOR_SIZE("executor-size", String.valueOf(0), int.class),
     
+    /**
+     * Max concurrent execution groups of each data source submitted to worker group, execution groups exceed it wait until running ones completed.
+     * The default value is 0, which means no limit.
+     */
+    EXECUTOR_MAX_CONCURRENT_GROUPS_PER_DATA_SOURCE("executor-max-concurrent-groups-per-data-source", String.valueOf(0), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -118,6 +124,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SHOW_PROCESS_LIST_ENABLED("show-process-list-enabled", String.valueOf(false), boolean.class),
     
+    /**
+     * Sample interval of show process list, only one of every interval executions is recorded in process list.
+     * The default value is 1, which means all executions are recorded.
+     */
+    SHOW_PROCESS_LIST_SAMPLE_INTERVAL("show-process-list-sample-interval", String.valueOf(1), int.class),
+    
     /**
      * The length of time in milliseconds an SQL waits for a global lock before giving up.
      */
@@ -132,7 +144,29 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
      */
-    PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", "-1", int.class);
+    PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", "-1", int.class),
+    
+    /**
+     * Whether store query results loaded into memory column-wise for ShardingSphere-Proxy, which reduces heap usage of large memory merge.
+     */
+    PROXY_BACKEND_QUERY_RESULT_COLUMNAR_ENABLED("proxy-backend-query-result-columnar-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max heap bytes of memory merged result for each query, rows exceed it will be spilled into local temporary files.
+     * The default value is 0, which means no limit.
+     */
+    SQL_MERGE_MEMORY_BUDGET_BYTES("sql-merge-memory-budget-bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Whether merge COUNT(DISTINCT) with HyperLogLog sketch, which returns approximate result with bounded memory.
+     */
+    SQL_MERGE_APPROXIMATE_COUNT_DISTINCT_ENABLED("sql-merge-approximate-count-distinct-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max size of route cache for each sharding rule, which caches route results of single routed point queries by SQL and sharding values.
+     * The default value is 0, which means route cache disabled.
+     */
+    SQL_ROUTE_CACHE_MAX_SIZE("sql-route-cache-max-size", String.valueOf(0), int.class);
     
     private final String key;
     
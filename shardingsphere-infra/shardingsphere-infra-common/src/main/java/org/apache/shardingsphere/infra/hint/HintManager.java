@@ -154,6 +154,15 @@ public final class HintManager implements AutoCloseable {
         return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().writeRouteOnly;
     }
     
+    /**
+     * Judge whether hint manager instantiated or not.
+     *
+     * @return hint manager instantiated or not
+     */
+    public static boolean isInstantiated() {
+        return null != HINT_MANAGER_HOLDER.get();
+    }
+    
     /**
      * Clear thread local for hint manager.
      */
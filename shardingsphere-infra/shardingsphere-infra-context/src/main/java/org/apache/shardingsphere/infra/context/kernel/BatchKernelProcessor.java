@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kernel processor for batched statements.
+ * 
+ * <p>
+ * Every batched row of a single values INSERT is routed as usual, but the rewritten SQL of each route unit is reused by following rows,
+ * only parameters are replaced. Statements whose rewrite changes parameters (generated keys, encrypt, shadow and so on) always go through the full kernel.
+ * </p>
+ */
+public final class BatchKernelProcessor extends KernelProcessor {
+    
+    static {
+        ShardingSphereServiceLoader.register(SQLRewriteContextDecorator.class);
+    }
+    
+    private final Map<RouteUnit, ExecutionUnit> rewrittenUnits = new HashMap<>();
+    
+    private ShardingSphereMetaData cachedMetaData;
+    
+    @Override
+    public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        if (!isSingleValuesInsert(logicSQL.getSqlStatementContext())) {
+            return super.generateExecutionContext(logicSQL, metaData, props);
+        }
+        if (metaData != cachedMetaData) {
+            rewrittenUnits.clear();
+            cachedMetaData = metaData;
+        }
+        RouteContext routeContext = route(logicSQL, metaData, props);
+        if (routeContext.isFederated() || 1 != routeContext.getRouteUnits().size()) {
+            return generateExecutionContext(logicSQL, metaData, props, routeContext);
+        }
+        RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+        ExecutionUnit rewrittenUnit = rewrittenUnits.get(routeUnit);
+        if (null != rewrittenUnit) {
+            ExecutionContext result = new ExecutionContext(logicSQL, Collections.singletonList(createExecutionUnit(rewrittenUnit, logicSQL)), routeContext);
+            logSQL(logicSQL, props, result);
+            return result;
+        }
+        ExecutionContext result = generateExecutionContext(logicSQL, metaData, props, routeContext);
+        if (isReusable(logicSQL, metaData, result)) {
+            rewrittenUnits.put(routeUnit, result.getExecutionUnits().iterator().next());
+        }
+        return result;
+    }
+    
+    private boolean isSingleValuesInsert(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return null == insertStatementContext.getInsertSelectContext() && null == insertStatementContext.getOnDuplicateKeyUpdateValueContext()
+                && 1 == insertStatementContext.getInsertValueContexts().size() && !insertStatementContext.getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+    }
+    
+    private boolean isReusable(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ExecutionContext executionContext) {
+        Collection<ExecutionUnit> executionUnits = executionContext.getExecutionUnits();
+        if (1 != executionUnits.size() || !executionUnits.iterator().next().getSqlUnit().getParameters().equals(logicSQL.getParameters())) {
+            return false;
+        }
+        Collection<ShardingSphereRule> rules = OrderedSPIRegistry.getRegisteredServices(metaData.getRuleMetaData().getRules(), SQLRewriteContextDecorator.class).keySet();
+        return rules.stream().allMatch(each -> each instanceof DataNodeContainedRule);
+    }
+    
+    private ExecutionUnit createExecutionUnit(final ExecutionUnit rewrittenUnit, final LogicSQL logicSQL) {
+        SQLUnit sqlUnit = rewrittenUnit.getSqlUnit();
+        return new ExecutionUnit(rewrittenUnit.getDataSourceName(), new SQLUnit(sqlUnit.getSql(), new ArrayList<>(logicSQL.getParameters()), sqlUnit.getTableRouteMappers()));
+    }
+    
+    /**
+     * Clear rewritten execution units of batched statements.
+     */
+    public void clear() {
+        rewrittenUnits.clear();
+    }
+}
@@ -32,7 +32,7 @@ import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 /**
  * Kernel processor.
  */
-public final class KernelProcessor {
+public class KernelProcessor {
     
     /**
      * Generate execution context.
@@ -43,14 +43,17 @@ public final class KernelProcessor {
      * @return execution context
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        RouteContext routeContext = route(logicSQL, metaData, props);
+        return generateExecutionContext(logicSQL, metaData, props, route(logicSQL, metaData, props));
+    }
+    
+    ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
         SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
         ExecutionContext result = createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
         logSQL(logicSQL, props, result);
         return result;
     }
     
-    private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+    RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
         return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
     }
     
@@ -63,7 +66,7 @@ public final class KernelProcessor {
         return new ExecutionContext(logicSQL, ExecutionContextBuilder.build(metaData, rewriteResult, logicSQL.getSqlStatementContext()), routeContext);
     }
     
-    private void logSQL(final LogicSQL logicSQL, final ConfigurationProperties props, final ExecutionContext executionContext) {
+    void logSQL(final LogicSQL logicSQL, final ConfigurationProperties props, final ExecutionContext executionContext) {
         if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
             SQLLogger.logSQL(logicSQL, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
         }
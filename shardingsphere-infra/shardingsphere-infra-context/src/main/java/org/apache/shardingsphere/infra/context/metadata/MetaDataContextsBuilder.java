@@ -79,7 +79,8 @@ public final class MetaDataContextsBuilder {
         this.schemaRuleConfigs = schemaRuleConfigs;
         this.globalRuleConfigs = globalRuleConfigs;
         this.props = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
+        executorEngine = new ExecutorEngine(
+                this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_MAX_CONCURRENT_GROUPS_PER_DATA_SOURCE));
     }
     
     /**
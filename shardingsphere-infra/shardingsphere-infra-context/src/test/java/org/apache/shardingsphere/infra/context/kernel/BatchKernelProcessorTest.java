@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class BatchKernelProcessorTest {
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private ShardingSphereMetaData metaData;
+    
+    @Before
+    public void setUp() {
+        ShardingSphereResource resource = mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS);
+        when(resource.getDataSources()).thenReturn(Collections.singletonMap("ds", mock(DataSource.class)));
+        metaData = new ShardingSphereMetaData("logic_schema", resource, new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), mock(ShardingSphereSchema.class));
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextWithRewrittenUnit() {
+        BatchKernelProcessor batchKernelProcessor = new BatchKernelProcessor();
+        InsertStatementContext firstStatementContext = createInsertStatementContext(Collections.singletonList(1));
+        ExecutionContext first = batchKernelProcessor.generateExecutionContext(
+                new LogicSQL(firstStatementContext, "INSERT INTO tbl VALUES (?)", Collections.singletonList(1)), metaData, props);
+        InsertStatementContext secondStatementContext = createInsertStatementContext(Collections.singletonList(2));
+        ExecutionContext second = batchKernelProcessor.generateExecutionContext(
+                new LogicSQL(secondStatementContext, "INSERT INTO tbl VALUES (?)", Collections.singletonList(2)), metaData, props);
+        assertExecutionUnit(first, Collections.singletonList(1));
+        assertExecutionUnit(second, Collections.singletonList(2));
+        verify(firstStatementContext, times(1)).getGroupedParameters();
+        verify(secondStatementContext, never()).getGroupedParameters();
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextAfterClear() {
+        BatchKernelProcessor batchKernelProcessor = new BatchKernelProcessor();
+        batchKernelProcessor.generateExecutionContext(
+                new LogicSQL(createInsertStatementContext(Collections.singletonList(1)), "INSERT INTO tbl VALUES (?)", Collections.singletonList(1)), metaData, props);
+        batchKernelProcessor.clear();
+        InsertStatementContext statementContext = createInsertStatementContext(Collections.singletonList(2));
+        ExecutionContext actual = batchKernelProcessor.generateExecutionContext(
+                new LogicSQL(statementContext, "INSERT INTO tbl VALUES (?)", Collections.singletonList(2)), metaData, props);
+        verify(statementContext, times(1)).getGroupedParameters();
+        assertExecutionUnit(actual, Collections.singletonList(2));
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextWithMultipleValues() {
+        BatchKernelProcessor batchKernelProcessor = new BatchKernelProcessor();
+        batchKernelProcessor.generateExecutionContext(
+                new LogicSQL(createInsertStatementContext(Collections.singletonList(1)), "INSERT INTO tbl VALUES (?)", Collections.singletonList(1)), metaData, props);
+        InsertStatementContext statementContext = createInsertStatementContext(Collections.singletonList(2));
+        when(statementContext.getInsertValueContexts()).thenReturn(Collections.nCopies(2, mock(InsertValueContext.class)));
+        batchKernelProcessor.generateExecutionContext(new LogicSQL(statementContext, "INSERT INTO tbl VALUES (?)", Collections.singletonList(2)), metaData, props);
+        verify(statementContext, times(1)).getGroupedParameters();
+    }
+    
+    private InsertStatementContext createInsertStatementContext(final List<Object> parameters) {
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(mock(InsertStatement.class));
+        when(result.getTablesContext()).thenReturn(new TablesContext(new SimpleTableSegment(new TableNameSegment(12, 14, new IdentifierValue("tbl")))));
+        when(result.getInsertValueContexts()).thenReturn(Collections.singletonList(mock(InsertValueContext.class)));
+        when(result.getGroupedParameters()).thenReturn(Collections.singletonList(parameters));
+        return result;
+    }
+    
+    private void assertExecutionUnit(final ExecutionContext actual, final List<Object> expectedParameters) {
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        ExecutionUnit executionUnit = actual.getExecutionUnits().iterator().next();
+        assertThat(executionUnit.getDataSourceName(), is("ds"));
+        assertThat(executionUnit.getSqlUnit().getSql(), is("INSERT INTO tbl VALUES (?)"));
+        assertThat(executionUnit.getSqlUnit().getParameters(), is(expectedParameters));
+    }
+}
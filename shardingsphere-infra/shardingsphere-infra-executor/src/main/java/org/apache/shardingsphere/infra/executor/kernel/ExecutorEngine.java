@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
@@ -24,6 +25,7 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorScheduler;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
@@ -43,8 +45,15 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    private final ExecutorScheduler executorScheduler;
+    
     public ExecutorEngine(final int executorSize) {
+        this(executorSize, 0);
+    }
+    
+    public ExecutorEngine(final int executorSize, final int maxConcurrentGroupsPerDataSource) {
         executorServiceManager = new ExecutorServiceManager(executorSize);
+        executorScheduler = new ExecutorScheduler(executorServiceManager.getExecutorService(), maxConcurrentGroupsPerDataSource);
     }
     
     /**
@@ -79,7 +88,7 @@ public final class ExecutorEngine implements AutoCloseable {
             return Collections.emptyList();
         }
         return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+                : parallelExecute(executionGroupContext.getSchemaName(), executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
@@ -91,9 +100,10 @@ public final class ExecutorEngine implements AutoCloseable {
         return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> parallelExecute(final String schemaName, final Iterator<ExecutionGroup<I>> executionGroups, 
+                                           final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
+        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncExecute(schemaName, executionGroups, callback);
         return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
@@ -101,27 +111,27 @@ public final class ExecutorEngine implements AutoCloseable {
         return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
     }
     
-    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
+    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncExecute(final String schemaName, final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
         Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            result.add(asyncExecute(schemaName, executionGroups.next(), callback));
         }
         return result;
     }
     
-    private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
+    private <I, O> ListenableFuture<Collection<O>> asyncExecute(final String schemaName, final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        return executorScheduler.submit(schemaName, executionGroup.getDataSourceName(), () -> callback.execute(executionGroup.getInputs(), false, dataMap));
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
-        for (ListenableFuture<Collection<O>> each : restFutures) {
-            try {
-                result.addAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                return throwException(ex);
+        try {
+            for (Collection<O> each : Futures.allAsList(restFutures).get()) {
+                result.addAll(each);
             }
+        } catch (final InterruptedException | ExecutionException ex) {
+            return throwException(ex);
         }
         return result;
     }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor metrics.
+ * 
+ * <p>Task submitted, started and completed events are recorded by this class, and exported by metrics plugin of agent through intercepting them.</p>
+ */
+public final class ExecutorMetrics {
+    
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    
+    private final LongAdder startedTaskCount = new LongAdder();
+    
+    private final LongAdder completedTaskCount = new LongAdder();
+    
+    private final LongAdder totalWaitTimeNanos = new LongAdder();
+    
+    /**
+     * Record task submitted.
+     */
+    public void onSubmit() {
+        queueDepth.incrementAndGet();
+    }
+    
+    /**
+     * Record task started.
+     * 
+     * @param waitTimeNanos wait time from submitted to started in nanoseconds
+     */
+    public void onStart(final long waitTimeNanos) {
+        queueDepth.decrementAndGet();
+        startedTaskCount.increment();
+        totalWaitTimeNanos.add(waitTimeNanos);
+    }
+    
+    /**
+     * Record task completed.
+     */
+    public void onComplete() {
+        completedTaskCount.increment();
+    }
+    
+    /**
+     * Get count of tasks submitted but not started.
+     * 
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+    
+    /**
+     * Get count of completed tasks.
+     * 
+     * @return completed task count
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+    
+    /**
+     * Get total wait time of started tasks.
+     * 
+     * @return total wait time in nanoseconds
+     */
+    public long getTotalWaitTimeNanos() {
+        return totalWaitTimeNanos.sum();
+    }
+    
+    /**
+     * Get average wait time of started tasks.
+     * 
+     * @return average wait time in nanoseconds
+     */
+    public long getAverageWaitTimeNanos() {
+        long startedCount = startedTaskCount.sum();
+        return 0 == startedCount ? 0L : totalWaitTimeNanos.sum() / startedCount;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Executor scheduler.
+ * 
+ * <p>If max concurrent tasks per data source is positive, tasks exceeding it wait in first-in-first-out queue of their data source of their schema,
+ * and are submitted by completion callback of running tasks, so no thread is blocked while waiting.</p>
+ */
+@RequiredArgsConstructor
+public final class ExecutorScheduler {
+    
+    private final ListeningExecutorService executorService;
+    
+    private final int maxConcurrentTasksPerDataSource;
+    
+    @Getter
+    private final ExecutorMetrics metrics = new ExecutorMetrics();
+    
+    private final Map<DataSourceKey, DataSourceTaskQueue> dataSourceTaskQueues = new ConcurrentHashMap<>();
+    
+    /**
+     * Submit task.
+     * 
+     * @param schemaName schema name
+     * @param dataSourceName data source name, task is not bounded if it is null
+     * @param task task
+     * @param <T> type of task result
+     * @return future of task result
+     */
+    public <T> ListenableFuture<T> submit(final String schemaName, final String dataSourceName, final Callable<T> task) {
+        Callable<T> measuredTask = measure(task);
+        if (maxConcurrentTasksPerDataSource <= 0 || null == dataSourceName) {
+            return executorService.submit(measuredTask);
+        }
+        SettableFuture<T> result = SettableFuture.create();
+        DataSourceTaskQueue dataSourceTaskQueue = dataSourceTaskQueues.computeIfAbsent(new DataSourceKey(schemaName, dataSourceName), key -> new DataSourceTaskQueue());
+        Runnable submission = () -> submit(dataSourceTaskQueue, measuredTask, result);
+        if (dataSourceTaskQueue.acquireOrEnqueue(submission, maxConcurrentTasksPerDataSource)) {
+            submission.run();
+        }
+        return result;
+    }
+    
+    private <T> void submit(final DataSourceTaskQueue dataSourceTaskQueue, final Callable<T> task, final SettableFuture<T> result) {
+        ListenableFuture<T> future;
+        try {
+            future = executorService.submit(task);
+        } catch (final RejectedExecutionException ex) {
+            result.setException(ex);
+            release(dataSourceTaskQueue);
+            return;
+        }
+        future.addListener(() -> release(dataSourceTaskQueue), MoreExecutors.directExecutor());
+        result.setFuture(future);
+    }
+    
+    private <T> Callable<T> measure(final Callable<T> task) {
+        long submitTime = System.nanoTime();
+        metrics.onSubmit();
+        return () -> {
+            metrics.onStart(System.nanoTime() - submitTime);
+            try {
+                return task.call();
+            } finally {
+                metrics.onComplete();
+            }
+        };
+    }
+    
+    private void release(final DataSourceTaskQueue dataSourceTaskQueue) {
+        Runnable next = dataSourceTaskQueue.releaseOrPoll();
+        if (null != next) {
+            next.run();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class DataSourceKey {
+        
+        private final String schemaName;
+        
+        private final String dataSourceName;
+    }
+    
+    private static final class DataSourceTaskQueue {
+        
+        private final Queue<Runnable> pendingSubmissions = new LinkedList<>();
+        
+        private int runningCount;
+        
+        private synchronized boolean acquireOrEnqueue(final Runnable submission, final int maxRunningCount) {
+            if (runningCount < maxRunningCount) {
+                runningCount++;
+                return true;
+            }
+            pendingSubmissions.offer(submission);
+            return false;
+        }
+        
+        private synchronized Runnable releaseOrPoll() {
+            Runnable result = pendingSubmissions.poll();
+            if (null == result) {
+                runningCount--;
+            }
+            return result;
+        }
+    }
+}
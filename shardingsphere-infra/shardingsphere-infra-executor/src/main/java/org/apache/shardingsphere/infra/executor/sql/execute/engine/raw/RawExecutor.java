@@ -63,10 +63,10 @@ public final class RawExecutor {
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, props);
             // TODO Load query header for first query
             List<ExecuteResult> results = execute(executionGroupContext, (RawSQLExecutorCallback) null, callback);
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             return CollectionUtils.isEmpty(results) || Objects.isNull(results.get(0)) ? Collections
                 .singleton(new UpdateResult(0, 0L)) : results;
         } finally {
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             ExecuteProcessEngine.clean();
         }
     }
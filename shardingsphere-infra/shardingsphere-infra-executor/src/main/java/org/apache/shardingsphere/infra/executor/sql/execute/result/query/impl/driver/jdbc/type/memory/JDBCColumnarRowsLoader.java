@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.BooleanMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DictionaryMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.IntMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.LongMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumnsIterator;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ObjectMemoryQueryResultColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * JDBC columnar rows loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCColumnarRowsLoader {
+    
+    /**
+     * Load rows into columns.
+     * 
+     * @param columnCount column count
+     * @param resultSet result set of JDBC
+     * @return iterator of query result data rows
+     * @throws SQLException SQL exception
+     */
+    public static MemoryQueryResultColumnsIterator load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        int[] columnTypes = JDBCRowsLoader.loadColumnTypes(columnCount, resultSet.getMetaData());
+        boolean[] signed = JDBCRowsLoader.loadSigned(columnTypes, resultSet.getMetaData());
+        MemoryQueryResultColumn[] columns = new MemoryQueryResultColumn[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = createColumn(columnTypes[i], signed[i]);
+        }
+        int rowCount = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                loadValue(resultSet, i + 1, columnTypes[i], signed[i], columns[i]);
+            }
+            rowCount++;
+        }
+        return new MemoryQueryResultColumnsIterator(columns, rowCount);
+    }
+    
+    private static MemoryQueryResultColumn createColumn(final int columnType, final boolean signed) {
+        switch (columnType) {
+            case Types.BOOLEAN:
+                return new BooleanMemoryQueryResultColumn();
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntMemoryQueryResultColumn();
+            case Types.INTEGER:
+                return signed ? new IntMemoryQueryResultColumn() : new LongMemoryQueryResultColumn();
+            case Types.BIGINT:
+                return signed ? new LongMemoryQueryResultColumn() : new ObjectMemoryQueryResultColumn();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleMemoryQueryResultColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new DictionaryMemoryQueryResultColumn();
+            default:
+                return new ObjectMemoryQueryResultColumn();
+        }
+    }
+    
+    private static void loadValue(final ResultSet resultSet, final int columnIndex, final int columnType, final boolean signed, final MemoryQueryResultColumn column) throws SQLException {
+        if (column instanceof IntMemoryQueryResultColumn) {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                ((IntMemoryQueryResultColumn) column).appendNull();
+            } else {
+                ((IntMemoryQueryResultColumn) column).append(value);
+            }
+        } else if (column instanceof LongMemoryQueryResultColumn) {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                ((LongMemoryQueryResultColumn) column).appendNull();
+            } else {
+                ((LongMemoryQueryResultColumn) column).append(value);
+            }
+        } else if (column instanceof DoubleMemoryQueryResultColumn) {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                ((DoubleMemoryQueryResultColumn) column).appendNull();
+            } else {
+                ((DoubleMemoryQueryResultColumn) column).append(value);
+            }
+        } else if (column instanceof BooleanMemoryQueryResultColumn) {
+            boolean value = resultSet.getBoolean(columnIndex);
+            if (resultSet.wasNull()) {
+                ((BooleanMemoryQueryResultColumn) column).appendNull();
+            } else {
+                ((BooleanMemoryQueryResultColumn) column).append(value);
+            }
+        } else if (column instanceof DictionaryMemoryQueryResultColumn) {
+            String value = resultSet.getString(columnIndex);
+            ((DictionaryMemoryQueryResultColumn) column).append(resultSet.wasNull() ? null : value);
+        } else {
+            Object value = JDBCRowsLoader.loadRowValue(resultSet, columnIndex, columnType, signed);
+            ((ObjectMemoryQueryResultColumn) column).append(resultSet.wasNull() ? null : value);
+        }
+    }
+}
@@ -47,10 +47,12 @@ public final class JDBCRowsLoader {
      */
     public static Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
         Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+        int[] columnTypes = loadColumnTypes(columnCount, resultSet.getMetaData());
+        boolean[] signed = loadSigned(columnTypes, resultSet.getMetaData());
         while (resultSet.next()) {
             List<Object> rowData = new ArrayList<>(columnCount);
             for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
+                Object rowValue = loadRowValue(resultSet, columnIndex, columnTypes[columnIndex - 1], signed[columnIndex - 1]);
                 rowData.add(resultSet.wasNull() ? null : rowValue);
             }
             result.add(new MemoryQueryResultDataRow(rowData));
@@ -58,22 +60,37 @@ public final class JDBCRowsLoader {
         return result;
     }
     
+    static int[] loadColumnTypes(final int columnCount, final ResultSetMetaData metaData) throws SQLException {
+        int[] result = new int[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result[columnIndex - 1] = metaData.getColumnType(columnIndex);
+        }
+        return result;
+    }
+    
+    static boolean[] loadSigned(final int[] columnTypes, final ResultSetMetaData metaData) throws SQLException {
+        boolean[] result = new boolean[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            result[i] = (Types.INTEGER == columnTypes[i] || Types.BIGINT == columnTypes[i]) && metaData.isSigned(i + 1);
+        }
+        return result;
+    }
+    
     @SuppressWarnings("ReturnOfNull")
-    private static Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    static Object loadRowValue(final ResultSet resultSet, final int columnIndex, final int columnType, final boolean signed) throws SQLException {
+        switch (columnType) {
             case Types.BOOLEAN:
                 return resultSet.getBoolean(columnIndex);
             case Types.TINYINT:
             case Types.SMALLINT:
                 return resultSet.getInt(columnIndex);
             case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
+                if (signed) {
                     return resultSet.getInt(columnIndex);
                 }
                 return resultSet.getLong(columnIndex);
             case Types.BIGINT:
-                if (metaData.isSigned(columnIndex)) {
+                if (signed) {
                     return resultSet.getLong(columnIndex);
                 }
                 BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory query result column for string values, which encodes repeated values with dictionary.
+ * 
+ * <p>Column falls back to plain values once distinct values reach the max dictionary size.</p>
+ */
+public final class DictionaryMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    private static final int NULL_CODE = -1;
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private List<String> dictionaryValues = new ArrayList<>();
+    
+    private Map<String, Integer> dictionaryCodes = new HashMap<>();
+    
+    private int[] codes = new int[DEFAULT_CAPACITY];
+    
+    private int size;
+    
+    private List<String> plainValues;
+    
+    /**
+     * Append value.
+     *
+     * @param value value
+     */
+    public void append(final String value) {
+        if (null == plainValues && null != value && !dictionaryCodes.containsKey(value) && MAX_DICTIONARY_SIZE == dictionaryValues.size()) {
+            fallBackToPlainValues();
+        }
+        if (null != plainValues) {
+            plainValues.add(value);
+            return;
+        }
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size + (size >> 1));
+        }
+        codes[size++] = null == value ? NULL_CODE : encode(value);
+    }
+    
+    private int encode(final String value) {
+        Integer result = dictionaryCodes.get(value);
+        if (null != result) {
+            return result;
+        }
+        result = dictionaryValues.size();
+        dictionaryValues.add(value);
+        dictionaryCodes.put(value, result);
+        return result;
+    }
+    
+    private void fallBackToPlainValues() {
+        plainValues = new ArrayList<>(size + (size >> 1));
+        for (int i = 0; i < size; i++) {
+            plainValues.add(decode(codes[i]));
+        }
+        dictionaryValues = null;
+        dictionaryCodes = null;
+        codes = null;
+    }
+    
+    private String decode(final int code) {
+        return NULL_CODE == code ? null : dictionaryValues.get(code);
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return null == plainValues ? decode(codes[rowIndex]) : plainValues.get(rowIndex);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Memory query result columns iterator, which reads rows from column-wise stored values while iterating.
+ * 
+ * <p>The same row is returned by every call of {@link #next()}, its values are read from columns at current row index, so it is valid until next call only.</p>
+ */
+@RequiredArgsConstructor
+public final class MemoryQueryResultColumnsIterator implements Iterator<MemoryQueryResultDataRow> {
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    private final int rowCount;
+    
+    private final MemoryQueryResultDataRow currentRow = new MemoryQueryResultDataRow(new CurrentRowValues());
+    
+    private int rowIndex;
+    
+    private int currentRowIndex;
+    
+    @Override
+    public boolean hasNext() {
+        return rowIndex < rowCount;
+    }
+    
+    @Override
+    public MemoryQueryResultDataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        currentRowIndex = rowIndex++;
+        return currentRow;
+    }
+    
+    private final class CurrentRowValues extends AbstractList<Object> {
+        
+        @Override
+        public Object get(final int index) {
+            return columns[index].getValue(currentRowIndex);
+        }
+        
+        @Override
+        public int size() {
+            return columns.length;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.executor.sql.federate.schema.FederateLogi
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateRowExecutor;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.Connection;
@@ -39,9 +40,11 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -53,6 +56,8 @@ public final class FederateJDBCExecutor implements FederateExecutor {
     
     public static final String DRIVER_NAME = "org.apache.calcite.jdbc.Driver";
     
+    private static final int MAX_CACHED_STATEMENT_SIZE = 64;
+    
     private final String schema;
     
     private final OptimizeContextFactory factory;
@@ -61,7 +66,17 @@ public final class FederateJDBCExecutor implements FederateExecutor {
     
     private final JDBCExecutor jdbcExecutor;
     
-    private Statement statement;
+    private final Map<String, PreparedStatement> cachedStatements = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private FederateRowExecutor rowExecutor;
+    
+    private Connection connection;
+    
+    private FederateSchemaMetadata schemaMetadata;
+    
+    private long schemaVersion;
+    
+    private PreparedStatement statement;
     
     static {
         try {
@@ -87,10 +102,13 @@ public final class FederateJDBCExecutor implements FederateExecutor {
     
     @Override
     public void close() throws SQLException {
-        if (null != statement && !statement.isClosed()) {
-            Connection connection = statement.getConnection();
-            statement.close();
-            connection.close();
+        try {
+            closeCachedStatements();
+        } finally {
+            if (null != connection) {
+                connection.close();
+                connection = null;
+            }
         }
     }
     
@@ -102,20 +120,50 @@ public final class FederateJDBCExecutor implements FederateExecutor {
     private ResultSet execute(final ExecutionContext executionContext, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
                               final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine) throws SQLException {
         SQLUnit sqlUnit = executionContext.getExecutionUnits().iterator().next().getSqlUnit();
-        PreparedStatement statement = getConnection(executionContext, callback, prepareEngine).prepareStatement(SQLUtil.trimSemicolon(sqlUnit.getSql()));
+        PreparedStatement statement = getPreparedStatement(SQLUtil.trimSemicolon(sqlUnit.getSql()));
         setParameters(statement, sqlUnit.getParameters());
         this.statement = statement;
-        return statement.executeQuery();
+        rowExecutor = new FederateRowExecutor(props, jdbcExecutor, executionContext, callback, prepareEngine);
+        try {
+            return statement.executeQuery();
+        } finally {
+            rowExecutor = null;
+        }
     }
     
-    private Connection getConnection(final ExecutionContext executionContext, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
-                                     final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine) throws SQLException {
-        Connection result = DriverManager.getConnection(CONNECTION_URL, getProperties());
-        CalciteConnection calciteConnection = result.unwrap(CalciteConnection.class);
-        addSchema(calciteConnection, executionContext, callback, prepareEngine);
+    private PreparedStatement getPreparedStatement(final String sql) throws SQLException {
+        Connection connection = getConnection();
+        PreparedStatement result = cachedStatements.get(sql);
+        if (null == result) {
+            result = connection.prepareStatement(sql);
+            cachedStatements.put(sql, result);
+            if (cachedStatements.size() > MAX_CACHED_STATEMENT_SIZE) {
+                evictEldestStatement();
+            }
+        }
         return result;
     }
     
+    private void evictEldestStatement() throws SQLException {
+        Iterator<PreparedStatement> iterator = cachedStatements.values().iterator();
+        PreparedStatement eldest = iterator.next();
+        iterator.remove();
+        eldest.close();
+    }
+    
+    private Connection getConnection() throws SQLException {
+        FederateSchemaMetadata currentSchemaMetadata = factory.getSchemaMetadatas().getSchemaMetadataBySchemaName(schema);
+        if (null != connection && currentSchemaMetadata == schemaMetadata && currentSchemaMetadata.getVersion() == schemaVersion) {
+            return connection;
+        }
+        close();
+        schemaMetadata = currentSchemaMetadata;
+        schemaVersion = currentSchemaMetadata.getVersion();
+        connection = DriverManager.getConnection(CONNECTION_URL, getProperties());
+        addSchema(connection.unwrap(CalciteConnection.class), currentSchemaMetadata);
+        return connection;
+    }
+    
     private Properties getProperties() {
         Properties result = new Properties();
         result.setProperty(CalciteConnectionProperty.LEX.camelName(), factory.getProperties().getProperty(CalciteConnectionProperty.LEX.camelName()));
@@ -123,14 +171,22 @@ public final class FederateJDBCExecutor implements FederateExecutor {
         return result;
     }
     
-    private void addSchema(final CalciteConnection calciteConnection, final ExecutionContext executionContext, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
-                           final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine) throws SQLException {
-        FederateRowExecutor executor = new FederateRowExecutor(props, jdbcExecutor, executionContext, callback, prepareEngine);
-        FederateLogicSchema logicSchema = new FederateLogicSchema(factory.getSchemaMetadatas().getSchemaMetadataBySchemaName(schema), executor);
+    private void addSchema(final CalciteConnection calciteConnection, final FederateSchemaMetadata schemaMetadata) throws SQLException {
+        FederateLogicSchema logicSchema = new FederateLogicSchema(schemaMetadata, () -> rowExecutor);
         calciteConnection.getRootSchema().add(schema, logicSchema);
         calciteConnection.setSchema(schema);
     }
     
+    private void closeCachedStatements() throws SQLException {
+        try {
+            for (PreparedStatement each : cachedStatements.values()) {
+                each.close();
+            }
+        } finally {
+            cachedStatements.clear();
+        }
+    }
+    
     private void setParameters(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
         int count = 1;
         for (Object each : parameters) {
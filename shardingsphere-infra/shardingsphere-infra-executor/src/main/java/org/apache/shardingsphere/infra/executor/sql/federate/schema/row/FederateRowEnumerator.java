@@ -19,31 +19,93 @@ package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
 
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Federate row enumerator.
- *
+ * 
+ * <p>Rows of query results are fetched by a background thread into a bounded queue, the fetch is blocked when the queue is full.</p>
  */
 public final class FederateRowEnumerator implements Enumerator<Object[]> {
     
+    private static final int ROW_QUEUE_CAPACITY = 1024;
+    
+    private static final long OFFER_TIMEOUT_MILLISECONDS = 100L;
+    
+    private static final Object[] END_OF_ROWS = new Object[0];
+    
+    private static final ExecutorService FETCH_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("Federate-Fetch-%d"));
+    
     private final Collection<QueryResult> queryResults = new LinkedList<>();
     
-    private final Iterator<QueryResult> iterator;
+    private final BlockingQueue<Object[]> rows = new ArrayBlockingQueue<>(ROW_QUEUE_CAPACITY);
     
-    private QueryResult currentResultSet;
+    private final CountDownLatch fetchFinished = new CountDownLatch(1);
+    
+    private volatile boolean closed;
+    
+    private volatile SQLException fetchException;
+    
+    private volatile boolean fetchCompleted;
+    
+    private boolean finished;
     
     private Object[] currentRow;
     
     public FederateRowEnumerator(final Collection<QueryResult> queryResults) {
         this.queryResults.addAll(queryResults);
-        iterator = this.queryResults.iterator();
-        currentResultSet = iterator.next();
+        FETCH_EXECUTOR.execute(this::fetch);
+    }
+    
+    private void fetch() {
+        try {
+            for (QueryResult each : queryResults) {
+                while (!closed && each.next()) {
+                    offer(getRow(each));
+                }
+            }
+            fetchCompleted = true;
+        } catch (final SQLException ex) {
+            fetchException = ex;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                offer(END_OF_ROWS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                fetchFinished.countDown();
+            }
+        }
+    }
+    
+    private Object[] getRow(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private void offer(final Object[] row) throws InterruptedException {
+        while (!closed) {
+            if (rows.offer(row, OFFER_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        }
     }
     
     @Override
@@ -53,31 +115,31 @@ public final class FederateRowEnumerator implements Enumerator<Object[]> {
     
     @Override
     public boolean moveNext() {
-        try {
-            return moveNext0();
-        } catch (final SQLException ex) {
-            throw new RuntimeException(ex);
-        }
-    }
-    
-    private boolean moveNext0() throws SQLException {
-        if (currentResultSet.next()) {
-            setCurrentRow();
-            return true;
+        if (finished) {
+            return false;
         }
-        if (!iterator.hasNext()) {
+        Object[] row = take();
+        if (END_OF_ROWS == row) {
+            finished = true;
             currentRow = null;
+            if (null != fetchException) {
+                throw new ShardingSphereException(fetchException);
+            }
+            if (!fetchCompleted) {
+                throw new ShardingSphereException("Fetch rows of federate query results is not completed.");
+            }
             return false;
         }
-        currentResultSet = iterator.next();
-        return moveNext0();
+        currentRow = row;
+        return true;
     }
     
-    private void setCurrentRow() throws SQLException {
-        int columnCount = currentResultSet.getMetaData().getColumnCount();
-        currentRow = new Object[columnCount];
-        for (int i = 0; i < columnCount; i++) {
-            currentRow[i] = currentResultSet.getValue(i + 1, Object.class);
+    private Object[] take() {
+        try {
+            return rows.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
         }
     }
     
@@ -87,13 +149,19 @@ public final class FederateRowEnumerator implements Enumerator<Object[]> {
     
     @Override
     public void close() {
+        closed = true;
+        rows.clear();
         try {
+            fetchFinished.await();
             for (QueryResult each : queryResults) {
                 each.close();
             }
             currentRow = null;
         } catch (final SQLException ex) {
             throw new ShardingSphereException(ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
         }
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -75,13 +76,18 @@ public final class FederateRowExecutor {
     private Collection<QueryResult> execute(final ExecutionContext context) {
         try {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits());
-            ExecuteProcessEngine.initialize(context.getLogicSQL(), executionGroupContext, props);
-            Collection<QueryResult> result = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
-            return result;
+            return execute(context.getLogicSQL(), executionGroupContext);
         } catch (final SQLException ex) {
             throw new ShardingSphereException(ex);
+        }
+    }
+    
+    private Collection<QueryResult> execute(final LogicSQL logicSQL, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        try {
+            ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, props);
+            return jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
         } finally {
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             ExecuteProcessEngine.clean();
         }
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.federate.schema.table;
 
+import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -26,16 +27,31 @@ import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateRowExecutor;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetadata;
 
+import java.util.function.Supplier;
+
 /**
  * Abstract Federate table.
  */
-@Getter(AccessLevel.PROTECTED)
 @RequiredArgsConstructor
 public abstract class AbstractFederateTable extends AbstractTable {
     
+    @Getter(AccessLevel.PROTECTED)
     private final FederateTableMetadata metadata;
     
-    private final FederateRowExecutor executor;
+    private final Supplier<FederateRowExecutor> executorSupplier;
+    
+    /**
+     * Get row executor of current execution.
+     * 
+     * <p>Row executor is available only while federate query is being executed, so it must be got when table is scanned rather than when rows are enumerated.</p>
+     * 
+     * @return row executor of current execution
+     */
+    protected final FederateRowExecutor getExecutor() {
+        FederateRowExecutor result = executorSupplier.get();
+        Preconditions.checkState(null != result, "Federate row executor is available only while executing federate query.");
+        return result;
+    }
     
     @Override
     public final RelDataType getRowType(final RelDataTypeFactory typeFactory) {
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.Federate
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetadata;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Federate filterable Table.
@@ -35,16 +36,17 @@ import java.util.List;
  */
 public final class FederateFilterableTable extends AbstractFederateTable implements ProjectableFilterableTable {
     
-    public FederateFilterableTable(final FederateTableMetadata metadata, final FederateRowExecutor executor) {
-        super(metadata, executor);
+    public FederateFilterableTable(final FederateTableMetadata metadata, final Supplier<FederateRowExecutor> executorSupplier) {
+        super(metadata, executorSupplier);
     }
     
     @Override
     public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
+        FederateRowExecutor executor = getExecutor();
         return new AbstractEnumerable<Object[]>() {
             @Override
             public Enumerator<Object[]> enumerator() {
-                return new FederateRowEnumerator(getExecutor().execute(getMetadata(), root, filters, projects));
+                return new FederateRowEnumerator(executor.execute(getMetadata(), root, filters, projects));
             }
         };
     }
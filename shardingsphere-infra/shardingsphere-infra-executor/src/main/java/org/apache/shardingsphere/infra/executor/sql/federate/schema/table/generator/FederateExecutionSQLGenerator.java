@@ -20,11 +20,23 @@ package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.gener
 import com.google.common.base.Joiner;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.NlsString;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +45,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class FederateExecutionSQLGenerator {
     
+    private static final Map<SqlKind, String> COMPARISON_OPERATORS = new EnumMap<>(SqlKind.class);
+    
     private final DataContext root;
     
     private final List<RexNode> filters;
@@ -41,6 +55,15 @@ public final class FederateExecutionSQLGenerator {
     
     private final List<String> columnNames;
     
+    static {
+        COMPARISON_OPERATORS.put(SqlKind.EQUALS, "=");
+        COMPARISON_OPERATORS.put(SqlKind.NOT_EQUALS, "<>");
+        COMPARISON_OPERATORS.put(SqlKind.LESS_THAN, "<");
+        COMPARISON_OPERATORS.put(SqlKind.LESS_THAN_OR_EQUAL, "<=");
+        COMPARISON_OPERATORS.put(SqlKind.GREATER_THAN, ">");
+        COMPARISON_OPERATORS.put(SqlKind.GREATER_THAN_OR_EQUAL, ">=");
+    }
+    
     /**
      * Generate sql.
      *
@@ -48,8 +71,96 @@ public final class FederateExecutionSQLGenerator {
      * @return sql
      */
     public String generate(final String table) {
-        // TODO generate sql with filters
         Collection<String> actualColumnNames = null == projects ? columnNames : Arrays.stream(projects).mapToObj(columnNames::get).collect(Collectors.toList());
-        return String.format("SELECT %s FROM %s", Joiner.on(", ").join(actualColumnNames), table);
+        String result = String.format("SELECT %s FROM %s", Joiner.on(", ").join(actualColumnNames), table);
+        Collection<String> predicates = generatePredicates();
+        return predicates.isEmpty() ? result : String.format("%s WHERE %s", result, Joiner.on(" AND ").join(predicates));
+    }
+    
+    private Collection<String> generatePredicates() {
+        Collection<String> result = new LinkedList<>();
+        if (null != filters) {
+            for (RexNode each : filters) {
+                generatePredicate(each).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private Optional<String> generatePredicate(final RexNode filter) {
+        if (!(filter instanceof RexCall)) {
+            return Optional.empty();
+        }
+        RexCall call = (RexCall) filter;
+        switch (call.getKind()) {
+            case AND:
+                return generateAndPredicate(call);
+            case OR:
+                return generateOrPredicate(call);
+            case IS_NULL:
+                return getColumnName(call.getOperands().get(0)).map(each -> each + " IS NULL");
+            case IS_NOT_NULL:
+                return getColumnName(call.getOperands().get(0)).map(each -> each + " IS NOT NULL");
+            default:
+                return COMPARISON_OPERATORS.containsKey(call.getKind()) ? generateComparisonPredicate(call) : Optional.empty();
+        }
+    }
+    
+    private Optional<String> generateAndPredicate(final RexCall call) {
+        Collection<String> predicates = call.getOperands().stream().map(this::generatePredicate).filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
+        return predicates.isEmpty() ? Optional.empty() : Optional.of(String.format("(%s)", Joiner.on(" AND ").join(predicates)));
+    }
+    
+    private Optional<String> generateOrPredicate(final RexCall call) {
+        Collection<String> predicates = new LinkedList<>();
+        for (RexNode each : call.getOperands()) {
+            Optional<String> predicate = generatePredicate(each);
+            if (!predicate.isPresent()) {
+                return Optional.empty();
+            }
+            predicates.add(predicate.get());
+        }
+        return Optional.of(String.format("(%s)", Joiner.on(" OR ").join(predicates)));
+    }
+    
+    private Optional<String> generateComparisonPredicate(final RexCall call) {
+        RexNode left = call.getOperands().get(0);
+        RexNode right = call.getOperands().get(1);
+        SqlKind kind = call.getKind();
+        if (!(left instanceof RexInputRef)) {
+            left = call.getOperands().get(1);
+            right = call.getOperands().get(0);
+            kind = kind.reverse();
+        }
+        Optional<String> columnName = getColumnName(left);
+        Optional<String> value = getValue(right, SqlKind.EQUALS == kind);
+        return columnName.isPresent() && value.isPresent() ? Optional.of(String.format("%s %s %s", columnName.get(), COMPARISON_OPERATORS.get(kind), value.get())) : Optional.empty();
+    }
+    
+    private Optional<String> getColumnName(final RexNode node) {
+        return node instanceof RexInputRef ? Optional.of(columnNames.get(((RexInputRef) node).getIndex())) : Optional.empty();
+    }
+    
+    private Optional<String> getValue(final RexNode node, final boolean isEquality) {
+        Object value = null;
+        if (node instanceof RexLiteral) {
+            value = ((RexLiteral) node).getValue();
+        } else if (node instanceof RexDynamicParam) {
+            value = root.get("?" + ((RexDynamicParam) node).getIndex());
+        }
+        if (value instanceof BigDecimal) {
+            return Optional.of(((BigDecimal) value).toPlainString());
+        }
+        if (value instanceof BigInteger || value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Optional.of(value.toString());
+        }
+        if (value instanceof NlsString) {
+            value = ((NlsString) value).getValue();
+        }
+        // String order and inequality depend on collation of database, only push down equality which never filters more rows than calcite
+        if (isEquality && value instanceof String && !((String) value).contains("\\")) {
+            return Optional.of(String.format("'%s'", ((String) value).replace("'", "''")));
+        }
+        return Optional.empty();
     }
 }
@@ -28,6 +28,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Process strategy evaluator.
  */
@@ -46,6 +48,10 @@ public final class ExecuteProcessStrategyEvaluator {
         boolean showProcessListEnabled = props.getValue(ConfigurationPropertyKey.SHOW_PROCESS_LIST_ENABLED);
         SQLStatement statement = context.getSqlStatement();
         boolean statementEnabled = statement instanceof DDLStatement || statement instanceof DMLStatement;
-        return showProcessListEnabled && statementEnabled;
+        return showProcessListEnabled && statementEnabled && isSampled(props.getValue(ConfigurationPropertyKey.SHOW_PROCESS_LIST_SAMPLE_INTERVAL));
+    }
+    
+    private static boolean isSampled(final int sampleInterval) {
+        return sampleInterval <= 1 || 0 == ThreadLocalRandom.current().nextInt(sampleInterval);
     }
 }
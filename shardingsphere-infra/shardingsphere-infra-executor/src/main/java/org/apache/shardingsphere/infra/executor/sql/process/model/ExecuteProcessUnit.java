@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.process.model;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
 /**
@@ -28,7 +29,8 @@ public final class ExecuteProcessUnit {
     
     private final String unitID;
     
-    private final ExecuteProcessConstants status;
+    @Setter
+    private volatile ExecuteProcessConstants status;
     
     public ExecuteProcessUnit(final ExecutionUnit executionUnit, final ExecuteProcessConstants status) {
         this.unitID = String.valueOf(executionUnit.hashCode());
@@ -15,20 +15,24 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.governance.core.registry.process.event;
+package org.apache.shardingsphere.infra.executor.sql.process.model.yaml;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.LinkedList;
 
 /**
- * Execute process unit report event.
+ * Batch execute process context for YAML.
  */
-@RequiredArgsConstructor
+@NoArgsConstructor
+@AllArgsConstructor
 @Getter
-public final class ExecuteProcessUnitReportEvent {
-    
-    private final String executionID;
+@Setter
+public final class BatchYamlExecuteProcessContext {
     
-    private final ExecuteProcessUnit executeProcessUnit;
+    private Collection<YamlExecuteProcessContext> contexts = new LinkedList<>();
 }
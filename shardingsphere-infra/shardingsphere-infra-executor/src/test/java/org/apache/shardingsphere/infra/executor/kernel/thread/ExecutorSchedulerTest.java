@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutorSchedulerTest {
+    
+    private final ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(8);
+    
+    @After
+    public void tearDown() {
+        executorServiceManager.close();
+    }
+    
+    @Test
+    public void assertSubmitWithMaxConcurrentTasksPerDataSource() throws InterruptedException, ExecutionException {
+        ExecutorScheduler executorScheduler = new ExecutorScheduler(executorServiceManager.getExecutorService(), 2);
+        AtomicInteger runningCount = new AtomicInteger();
+        AtomicInteger maxRunningCount = new AtomicInteger();
+        List<ListenableFuture<Integer>> futures = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            int index = i;
+            futures.add(executorScheduler.submit("logic_db", "ds_0", () -> {
+                maxRunningCount.accumulateAndGet(runningCount.incrementAndGet(), Math::max);
+                Thread.sleep(5L);
+                runningCount.decrementAndGet();
+                return index;
+            }));
+        }
+        List<Integer> actual = Futures.allAsList(futures).get();
+        for (int i = 0; i < 20; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+        assertTrue(maxRunningCount.get() <= 2);
+        assertThat(executorScheduler.getMetrics().getCompletedTaskCount(), is(20L));
+        assertThat(executorScheduler.getMetrics().getQueueDepth(), is(0));
+    }
+    
+    @Test
+    public void assertSubmitWithoutDataSourceName() throws InterruptedException, ExecutionException {
+        ExecutorScheduler executorScheduler = new ExecutorScheduler(executorServiceManager.getExecutorService(), 1);
+        assertThat(executorScheduler.submit("logic_db", null, () -> 1).get(), is(1));
+        assertThat(executorScheduler.getMetrics().getCompletedTaskCount(), is(1L));
+    }
+    
+    @Test
+    public void assertSubmitWithSameDataSourceNameOfDifferentSchemas() throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorScheduler executorScheduler = new ExecutorScheduler(executorServiceManager.getExecutorService(), 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        ListenableFuture<Integer> blockedFuture = executorScheduler.submit("logic_db_0", "ds_0", () -> {
+            latch.await();
+            return 0;
+        });
+        assertThat(executorScheduler.submit("logic_db_1", "ds_0", () -> 1).get(5L, TimeUnit.SECONDS), is(1));
+        latch.countDown();
+        assertThat(blockedFuture.get(), is(0));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JDBCColumnarMemoryQueryResultTest {
+    
+    @Test(expected = SQLException.class)
+    public void assertConstructorWithSqlException() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.next()).thenThrow(new SQLException(""));
+        new JDBCColumnarMemoryQueryResult(resultSet);
+    }
+    
+    @Test
+    public void assertGetValueByBoolean() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BOOLEAN);
+        when(resultSet.getBoolean(1)).thenReturn(true, false);
+        assertValues(resultSet, true, false);
+    }
+    
+    @Test
+    public void assertGetValueBySmallInt() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.SMALLINT);
+        when(resultSet.getInt(1)).thenReturn(1, 2);
+        assertValues(resultSet, 1, 2);
+    }
+    
+    @Test
+    public void assertGetValueBySignedInteger() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(1, 2);
+        assertValues(resultSet, 1, 2);
+    }
+    
+    @Test
+    public void assertGetValueByUnsignedInteger() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+        assertValues(resultSet, 1L, 2L);
+    }
+    
+    @Test
+    public void assertGetValueBySignedBigInt() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+        assertValues(resultSet, 1L, 2L);
+    }
+    
+    @Test
+    public void assertGetValueByUnsignedBigInt() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1"), new BigDecimal("2"));
+        assertValues(resultSet, BigInteger.ONE, new BigInteger("2"));
+    }
+    
+    @Test
+    public void assertGetValueByDecimal() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DECIMAL);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1"), new BigDecimal("2"));
+        assertValues(resultSet, new BigDecimal("1"), new BigDecimal("2"));
+    }
+    
+    @Test
+    public void assertGetValueByDouble() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DOUBLE);
+        when(resultSet.getDouble(1)).thenReturn(1.0D, 2.0D);
+        assertValues(resultSet, 1.0D, 2.0D);
+    }
+    
+    @Test
+    public void assertGetValueByVarchar() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.VARCHAR);
+        when(resultSet.getString(1)).thenReturn("value", "value");
+        assertValues(resultSet, "value", "value");
+    }
+    
+    @Test
+    public void assertGetValueByDate() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DATE);
+        when(resultSet.getDate(1)).thenReturn(new Date(0L), new Date(1L));
+        assertValues(resultSet, new Date(0L), new Date(1L));
+    }
+    
+    @Test
+    public void assertGetValueByNull() throws SQLException {
+        for (int each : new int[]{Types.BOOLEAN, Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.VARCHAR, Types.DATE}) {
+            ResultSet resultSet = getMockedResultSet(each);
+            when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+            when(resultSet.wasNull()).thenReturn(true);
+            JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+            assertTrue(actual.next());
+            assertNull(actual.getValue(1, Object.class));
+            assertTrue(actual.next());
+            assertNull(actual.getValue(1, Object.class));
+            assertFalse(actual.next());
+        }
+    }
+    
+    @Test
+    public void assertGetValueWithMultipleColumns() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+        when(resultSet.getString(2)).thenReturn("foo", "bar");
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(1L));
+        assertThat(actual.getValue(2, String.class), is("foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(2L));
+        assertThat(actual.getValue(2, String.class), is("bar"));
+        assertFalse(actual.next());
+    }
+    
+    private void assertValues(final ResultSet resultSet, final Object firstValue, final Object secondValue) throws SQLException {
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(firstValue));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(secondValue));
+        assertFalse(actual.next());
+    }
+    
+    private ResultSet getMockedResultSet(final int columnTypes) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(columnTypes);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class DictionaryMemoryQueryResultColumnTest {
+    
+    @Test
+    public void assertGetValue() {
+        DictionaryMemoryQueryResultColumn column = new DictionaryMemoryQueryResultColumn();
+        for (int i = 0; i < 100; i++) {
+            column.append(0 == i % 3 ? null : "value_" + i % 2);
+        }
+        for (int i = 0; i < 100; i++) {
+            if (0 == i % 3) {
+                assertNull(column.getValue(i));
+            } else {
+                assertThat(column.getValue(i), is("value_" + i % 2));
+            }
+        }
+    }
+    
+    @Test
+    public void assertGetValueWithRepeatedValues() {
+        DictionaryMemoryQueryResultColumn column = new DictionaryMemoryQueryResultColumn();
+        column.append(new String("value"));
+        column.append(new String("value"));
+        assertThat(column.getValue(0), sameInstance(column.getValue(1)));
+    }
+    
+    @Test
+    public void assertGetValueAfterDictionaryIsFull() {
+        DictionaryMemoryQueryResultColumn column = new DictionaryMemoryQueryResultColumn();
+        int rowCount = (1 << 16) + 100;
+        for (int i = 0; i < rowCount; i++) {
+            column.append(0 == i % 1000 ? null : "value_" + i);
+        }
+        column.append("value_1");
+        for (int i = 0; i < rowCount; i++) {
+            if (0 == i % 1000) {
+                assertNull(column.getValue(i));
+            } else {
+                assertThat(column.getValue(i), is("value_" + i));
+            }
+        }
+        assertThat(column.getValue(rowCount), is("value_1"));
+    }
+}
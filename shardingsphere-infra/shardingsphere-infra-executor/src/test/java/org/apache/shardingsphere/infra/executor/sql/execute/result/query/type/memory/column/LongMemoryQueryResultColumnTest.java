@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class LongMemoryQueryResultColumnTest {
+    
+    @Test
+    public void assertGetValue() {
+        LongMemoryQueryResultColumn column = new LongMemoryQueryResultColumn();
+        for (long i = 0; i < 100; i++) {
+            if (0 == i % 10) {
+                column.appendNull();
+            } else {
+                column.append(i);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            if (0 == i % 10) {
+                assertNull(column.getValue(i));
+            } else {
+                assertThat(column.getValue(i), is((long) i));
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MemoryQueryResultColumnsIteratorTest {
+    
+    @Test
+    public void assertNext() {
+        LongMemoryQueryResultColumn idColumn = new LongMemoryQueryResultColumn();
+        DictionaryMemoryQueryResultColumn statusColumn = new DictionaryMemoryQueryResultColumn();
+        idColumn.append(1L);
+        statusColumn.append("OK");
+        idColumn.append(2L);
+        statusColumn.append(null);
+        MemoryQueryResultColumnsIterator actual = new MemoryQueryResultColumnsIterator(new MemoryQueryResultColumn[]{idColumn, statusColumn}, 2);
+        assertTrue(actual.hasNext());
+        assertThat(actual.next().getValue(), is(Arrays.<Object>asList(1L, "OK")));
+        assertTrue(actual.hasNext());
+        assertThat(actual.next().getValue(), is(Arrays.<Object>asList(2L, null)));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test(expected = NoSuchElementException.class)
+    public void assertNextWithoutRows() {
+        new MemoryQueryResultColumnsIterator(new MemoryQueryResultColumn[0], 0).next();
+    }
+}
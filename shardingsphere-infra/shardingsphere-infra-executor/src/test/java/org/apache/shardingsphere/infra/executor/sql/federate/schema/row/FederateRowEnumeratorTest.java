@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
+
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class FederateRowEnumeratorTest {
+    
+    @Test
+    public void assertMoveNextWithMultipleQueryResults() throws SQLException {
+        QueryResult queryResult1 = mockQueryResult(1, 2);
+        QueryResult queryResult2 = mockQueryResult(3);
+        FederateRowEnumerator enumerator = new FederateRowEnumerator(Arrays.asList(queryResult1, queryResult2));
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current()[0], is(1));
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current()[0], is(2));
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current()[0], is(3));
+        assertFalse(enumerator.moveNext());
+        assertNull(enumerator.current());
+        enumerator.close();
+        verify(queryResult1).close();
+        verify(queryResult2).close();
+    }
+    
+    @Test
+    public void assertMoveNextWithoutQueryResults() {
+        FederateRowEnumerator enumerator = new FederateRowEnumerator(Collections.emptyList());
+        assertFalse(enumerator.moveNext());
+        enumerator.close();
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertMoveNextWithFetchFailure() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.next()).thenThrow(new SQLException("fetch failure"));
+        FederateRowEnumerator enumerator = new FederateRowEnumerator(Collections.singletonList(queryResult));
+        try {
+            enumerator.moveNext();
+        } finally {
+            enumerator.close();
+        }
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsFetched() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(queryResult.getMetaData()).thenReturn(metaData);
+        when(queryResult.next()).thenReturn(true);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        FederateRowEnumerator enumerator = new FederateRowEnumerator(Collections.singletonList(queryResult));
+        assertTrue(enumerator.moveNext());
+        enumerator.close();
+        verify(queryResult, times(1)).close();
+    }
+    
+    private QueryResult mockQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(result.getMetaData()).thenReturn(metaData);
+        Boolean[] restNextResults = new Boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            restNextResults[i] = i < values.length - 1;
+        }
+        when(result.next()).thenReturn(true, restNextResults);
+        when(result.getValue(1, Object.class)).thenReturn(values[0], Arrays.copyOfRange(values, 1, values.length));
+        return result;
+    }
+}
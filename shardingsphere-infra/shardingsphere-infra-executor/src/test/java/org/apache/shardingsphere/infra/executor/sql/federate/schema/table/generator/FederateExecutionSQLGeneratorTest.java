@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FederateExecutionSQLGeneratorTest {
+    
+    private final RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+    
+    private final RexBuilder rexBuilder = new RexBuilder(typeFactory);
+    
+    private final RelDataType integerType = typeFactory.createSqlType(SqlTypeName.INTEGER);
+    
+    private final RelDataType varcharType = typeFactory.createSqlType(SqlTypeName.VARCHAR);
+    
+    private final List<String> columnNames = Arrays.asList("order_id", "user_id", "status");
+    
+    @Test
+    public void assertGenerateWithoutFilters() {
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.emptyList(), new int[]{0, 2}, columnNames);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id, status FROM t_order_0"));
+    }
+    
+    @Test
+    public void assertGenerateWithComparisonFilters() {
+        RexNode userIdEquals = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(integerType, 1), rexBuilder.makeExactLiteral(BigDecimal.TEN));
+        RexNode orderIdGreaterThan = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, rexBuilder.makeExactLiteral(new BigDecimal("100")), rexBuilder.makeInputRef(integerType, 0));
+        RexNode statusEquals = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(varcharType, 2), rexBuilder.makeLiteral("it's"));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Arrays.asList(userIdEquals, orderIdGreaterThan, statusEquals), null, columnNames);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id, user_id, status FROM t_order_0 WHERE user_id = 10 AND order_id > 100 AND status = 'it''s'"));
+    }
+    
+    @Test
+    public void assertGenerateWithDynamicParameterAndNullFilters() {
+        DataContext root = mock(DataContext.class);
+        when(root.get("?0")).thenReturn(1);
+        RexNode userIdEquals = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(integerType, 1), rexBuilder.makeDynamicParam(integerType, 0));
+        RexNode statusIsNull = rexBuilder.makeCall(SqlStdOperatorTable.IS_NULL, rexBuilder.makeInputRef(varcharType, 2));
+        RexNode or = rexBuilder.makeCall(SqlStdOperatorTable.OR, userIdEquals, statusIsNull);
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(root, Collections.singletonList(or), new int[]{0}, columnNames);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE (user_id = 1 OR status IS NULL)"));
+    }
+    
+    @Test
+    public void assertGenerateWithoutUnsafeFilters() {
+        RexNode statusGreaterThan = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeInputRef(varcharType, 2), rexBuilder.makeLiteral("a"));
+        RexNode userIdEquals = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(integerType, 1), rexBuilder.makeExactLiteral(BigDecimal.TEN));
+        RexNode or = rexBuilder.makeCall(SqlStdOperatorTable.OR, statusGreaterThan, userIdEquals);
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Arrays.asList(statusGreaterThan, or), new int[]{0}, columnNames);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0"));
+    }
+}
@@ -17,12 +17,19 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.Blob;
@@ -31,8 +38,8 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
 import java.util.Calendar;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Memory merged result.
@@ -41,21 +48,45 @@ import java.util.List;
  */
 public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
     
-    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    @Getter(AccessLevel.PROTECTED)
+    private final ConfigurationProperties props;
+    
+    private final Iterable<MemoryQueryResultRow> memoryQueryResultRows;
+    
+    private final PeekingIterator<MemoryQueryResultRow> memoryResultSetRows;
     
     private MemoryQueryResultRow currentResultSetRow;
     
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRowList = init(rule, schema, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRowList.iterator();
-        if (!memoryQueryResultRowList.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRowList.get(0);
+        this(rule, schema, sqlStatementContext, queryResults, new ConfigurationProperties(new Properties()));
+    }
+    
+    protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, 
+                                 final List<QueryResult> queryResults, final ConfigurationProperties props) throws SQLException {
+        this.props = props;
+        memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
+        memoryResultSetRows = Iterators.peekingIterator(memoryQueryResultRows.iterator());
+        if (memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.peek();
         }
     }
     
-    protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    /**
+     * Initialize memory query result rows.
+     * 
+     * <p>Rows can be iterated only once, which makes it possible to read rows spilled into disk after memory budget exceeded.
+     * If rows are {@link Closeable}, they are closed when merged result is closed.</p>
+     * 
+     * @param rule rule
+     * @param schema ShardingSphere schema
+     * @param sqlStatementContext SQL statement context
+     * @param queryResults query results
+     * @return memory query result rows
+     * @throws SQLException SQL exception
+     */
+    protected abstract Iterable<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
     public final boolean next() {
@@ -93,4 +124,16 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public final void close() throws SQLException {
+        if (!(memoryQueryResultRows instanceof Closeable)) {
+            return;
+        }
+        try {
+            ((Closeable) memoryQueryResultRows).close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
 }
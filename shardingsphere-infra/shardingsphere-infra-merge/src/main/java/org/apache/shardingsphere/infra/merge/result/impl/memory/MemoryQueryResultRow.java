@@ -18,17 +18,25 @@
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import com.google.common.base.Preconditions;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.SQLException;
 
 /**
  * Memory query result row.
  */
 @RequiredArgsConstructor
+@Getter
 public final class MemoryQueryResultRow {
     
+    private static final int OBJECT_OVERHEAD = 16;
+    
+    private static final int REFERENCE_SIZE = 8;
+    
     private final Object[] data;
     
     public MemoryQueryResultRow(final QueryResult queryResult) throws SQLException {
@@ -65,4 +73,36 @@ public final class MemoryQueryResultRow {
         Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
         data[columnIndex - 1] = value;
     }
+    
+    /**
+     * Estimate heap size of row.
+     * 
+     * @return estimated heap size in bytes
+     */
+    public long estimateSize() {
+        long result = OBJECT_OVERHEAD + OBJECT_OVERHEAD + (long) REFERENCE_SIZE * data.length;
+        for (Object each : data) {
+            result += estimateSize(each);
+        }
+        return result;
+    }
+    
+    private long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_OVERHEAD * 3 + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_OVERHEAD * 4 + ((BigDecimal) value).unscaledValue().bitLength() / Byte.SIZE;
+        }
+        if (value instanceof BigInteger) {
+            return OBJECT_OVERHEAD * 3 + ((BigInteger) value).bitLength() / Byte.SIZE;
+        }
+        return OBJECT_OVERHEAD + REFERENCE_SIZE;
+    }
 }
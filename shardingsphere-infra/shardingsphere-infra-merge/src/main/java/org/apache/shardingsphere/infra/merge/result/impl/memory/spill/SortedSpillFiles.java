@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Sorted spill files, each spill file holds one sorted run and all runs are merged with k-way merge while iterating.
+ * 
+ * <p>Spill files are closed after all rows are iterated, or when sorted spill files are closed before that.</p>
+ */
+public final class SortedSpillFiles implements Iterable<MemoryQueryResultRow>, Closeable {
+    
+    private final Collection<SpillFile> spillFiles;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private boolean iterated;
+    
+    public SortedSpillFiles(final Collection<SpillFile> spillFiles, final Comparator<MemoryQueryResultRow> comparator) {
+        this.spillFiles = spillFiles;
+        this.comparator = comparator;
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> iterator() {
+        Preconditions.checkState(!iterated, "Sorted spill files can be iterated only once.");
+        iterated = true;
+        try {
+            return new MergedIterator();
+        } catch (final IOException ex) {
+            close();
+            throw new ShardingSphereException("Can not read rows from spill file.", ex);
+        }
+    }
+    
+    @Override
+    public void close() {
+        for (SpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+    
+    private final class MergedIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final Queue<SortedRun> sortedRuns;
+        
+        private MergedIterator() throws IOException {
+            sortedRuns = new PriorityQueue<>(Math.max(1, spillFiles.size()), (o1, o2) -> comparator.compare(o1.current, o2.current));
+            for (SpillFile each : spillFiles) {
+                SortedRun sortedRun = new SortedRun(each.read());
+                if (sortedRun.next()) {
+                    sortedRuns.offer(sortedRun);
+                }
+            }
+            if (sortedRuns.isEmpty()) {
+                close();
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !sortedRuns.isEmpty();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SortedRun sortedRun = sortedRuns.poll();
+            MemoryQueryResultRow result = sortedRun.current;
+            if (sortedRun.next()) {
+                sortedRuns.offer(sortedRun);
+            } else if (sortedRuns.isEmpty()) {
+                close();
+            }
+            return result;
+        }
+    }
+    
+    private static final class SortedRun {
+        
+        private final Iterator<Object[]> rows;
+        
+        private MemoryQueryResultRow current;
+        
+        private SortedRun(final Iterator<Object[]> rows) {
+            this.rows = rows;
+        }
+        
+        private boolean next() {
+            if (rows.hasNext()) {
+                current = new MemoryQueryResultRow(rows.next());
+                return true;
+            }
+            return false;
+        }
+    }
+}
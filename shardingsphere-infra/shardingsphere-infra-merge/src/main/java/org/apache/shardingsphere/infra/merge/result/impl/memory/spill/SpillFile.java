@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.CountingOutputStream;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Spill file.
+ * 
+ * <p>Rows are appended into local temporary file with {@link SpillRowCodec} and can be read back only once.
+ * The file is deleted as soon as it is opened for reading, and when it is closed.</p>
+ */
+public final class SpillFile implements Closeable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    
+    private final CountingOutputStream countingOutputStream;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private int rowCount;
+    
+    private SpillFile(final File file) throws IOException {
+        this.file = file;
+        countingOutputStream = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        output = new DataOutputStream(countingOutputStream);
+    }
+    
+    /**
+     * Create spill file.
+     * 
+     * @return created spill file
+     * @throws IOException IO exception
+     */
+    public static SpillFile create() throws IOException {
+        return new SpillFile(File.createTempFile("shardingsphere-merge-", ".spill"));
+    }
+    
+    /**
+     * Append rows.
+     * 
+     * @param rows rows to be appended
+     * @return appended bytes
+     * @throws IOException IO exception
+     */
+    public long append(final Collection<Object[]> rows) throws IOException {
+        Preconditions.checkState(null != output, "Can not append rows to spill file after read.");
+        long startBytes = countingOutputStream.getCount();
+        for (Object[] each : rows) {
+            SpillRowCodec.write(output, each);
+        }
+        rowCount += rows.size();
+        return countingOutputStream.getCount() - startBytes;
+    }
+    
+    /**
+     * Get spilled bytes.
+     * 
+     * @return spilled bytes
+     */
+    public long getSize() {
+        return countingOutputStream.getCount();
+    }
+    
+    /**
+     * Read rows.
+     * 
+     * @return rows iterator
+     * @throws IOException IO exception
+     */
+    public Iterator<Object[]> read() throws IOException {
+        Preconditions.checkState(null != output, "Spill file can be read only once.");
+        output.close();
+        output = null;
+        input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+        delete();
+        return new SpillFileIterator();
+    }
+    
+    private void delete() {
+        if (file.exists() && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            if (null != output) {
+                output.close();
+            }
+            if (null != input) {
+                input.close();
+            }
+        } finally {
+            delete();
+        }
+    }
+    
+    private final class SpillFileIterator implements Iterator<Object[]> {
+        
+        private int remainingRowCount = rowCount;
+        
+        @Override
+        public boolean hasNext() {
+            return remainingRowCount > 0;
+        }
+        
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                Object[] result = SpillRowCodec.read(input);
+                if (0 == --remainingRowCount) {
+                    input.close();
+                }
+                return result;
+            } catch (final IOException ex) {
+                throw new ShardingSphereException("Can not read rows from spill file.", ex);
+            }
+        }
+    }
+}
@@ -71,4 +71,11 @@ public final class MemoryQueryResultRowTest {
     public void assertSetCellWithColumnIndexOutOfRange() {
         memoryResultSetRow.setCell(2, "new");
     }
+    
+    @Test
+    public void assertEstimateSize() {
+        assertThat(memoryResultSetRow.estimateSize(), is(98L));
+        memoryResultSetRow.setCell(1, null);
+        assertThat(memoryResultSetRow.estimateSize(), is(40L));
+    }
 }
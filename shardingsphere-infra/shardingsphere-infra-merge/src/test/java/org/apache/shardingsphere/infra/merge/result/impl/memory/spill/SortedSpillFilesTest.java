@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SortedSpillFilesTest {
+    
+    @Test
+    public void assertIterator() throws IOException {
+        List<SpillFile> spillFiles = Arrays.asList(createSpillFile(1, 4, 7), createSpillFile(), createSpillFile(2, 3, 8, 9), createSpillFile(5, 6));
+        Comparator<MemoryQueryResultRow> comparator = Comparator.comparing(each -> (Integer) each.getCell(1));
+        Iterator<MemoryQueryResultRow> actual = new SortedSpillFiles(spillFiles, comparator).iterator();
+        for (int i = 1; i <= 9; i++) {
+            assertThat(actual.next().getCell(1), is(i));
+        }
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertIteratorTwice() throws IOException {
+        SortedSpillFiles sortedSpillFiles = new SortedSpillFiles(Arrays.asList(createSpillFile(1)), Comparator.comparing(each -> (Integer) each.getCell(1)));
+        sortedSpillFiles.iterator();
+        sortedSpillFiles.iterator();
+    }
+    
+    @Test
+    public void assertCloseBeforeIterated() throws IOException {
+        SpillFile spillFile = mock(SpillFile.class);
+        when(spillFile.read()).thenReturn(Arrays.<Object[]>asList(new Object[]{1}, new Object[]{2}).iterator());
+        SortedSpillFiles sortedSpillFiles = new SortedSpillFiles(Collections.singletonList(spillFile), Comparator.comparing(each -> (Integer) each.getCell(1)));
+        Iterator<MemoryQueryResultRow> actual = sortedSpillFiles.iterator();
+        assertThat(actual.next().getCell(1), is(1));
+        verify(spillFile, times(0)).close();
+        sortedSpillFiles.close();
+        verify(spillFile).close();
+    }
+    
+    private SpillFile createSpillFile(final int... values) throws IOException {
+        SpillFile result = SpillFile.create();
+        List<Object[]> rows = new LinkedList<>();
+        for (int each : values) {
+            rows.add(new Object[]{each});
+        }
+        result.append(rows);
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertAppendAndRead() throws IOException {
+        try (SpillFile spillFile = SpillFile.create()) {
+            long appendedBytes = spillFile.append(Arrays.asList(new Object[]{1, "foo"}, new Object[]{2, "bar"}));
+            appendedBytes += spillFile.append(Collections.singletonList(new Object[]{3, null}));
+            assertThat(spillFile.getRowCount(), is(3));
+            assertThat(spillFile.getSize(), is(appendedBytes));
+            Iterator<Object[]> actual = spillFile.read();
+            assertThat(actual.next(), is(new Object[]{1, "foo"}));
+            assertThat(actual.next(), is(new Object[]{2, "bar"}));
+            assertTrue(actual.hasNext());
+            assertThat(actual.next(), is(new Object[]{3, null}));
+            assertFalse(actual.hasNext());
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertAppendAfterRead() throws IOException {
+        try (SpillFile spillFile = SpillFile.create()) {
+            spillFile.read();
+            spillFile.append(Collections.singletonList(new Object[]{1}));
+        }
+    }
+}
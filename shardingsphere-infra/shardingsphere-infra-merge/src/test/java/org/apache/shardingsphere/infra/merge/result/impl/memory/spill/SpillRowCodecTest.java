@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, 1, 2L, (short) 3, (byte) 4, true, 5.5D, 6.5F, new BigDecimal("-7.89"), new BigInteger("12345678901234567890"), 
+            "foo_中", new byte[]{1, 2}, new Date(1000L), new Time(2000L), timestamp, new java.util.Date(3000L), LocalDateTime.of(2021, 1, 1, 0, 0)};
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(outputStream), expected);
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+        assertThat(actual, is(expected));
+        assertThat(actual[14], is(timestamp));
+        assertThat(((Timestamp) actual[14]).getNanos(), is(123456789));
+    }
+    
+    @Test
+    public void assertWriteAndReadLargeObjects() throws IOException, SQLException {
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(2L);
+        when(blob.getBytes(1L, 2)).thenReturn(new byte[]{1, 2});
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(3L);
+        when(clob.getCharacterStream()).thenReturn(new StringReader("foo"));
+        when(clob.getAsciiStream()).thenReturn(new ByteArrayInputStream("foo".getBytes(StandardCharsets.US_ASCII)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(outputStream), new Object[]{blob, clob});
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+        assertThat(((Blob) actual[0]).getBytes(1L, 2), is(new byte[]{1, 2}));
+        assertThat(((Clob) actual[1]).getSubString(1L, 3), is("foo"));
+    }
+    
+    @Test(expected = NotSerializableException.class)
+    public void assertWriteNotSerializableValue() throws IOException {
+        SpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[]{new Object()});
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.optimize.core.metadata;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederateSchemaMetadataTest {
+    
+    @Test
+    public void assertRenewIncreaseVersion() {
+        FederateSchemaMetadata schemaMetadata = new FederateSchemaMetadata("logic_db", Collections.singletonMap("t_order", createTableMetaData()));
+        assertThat(schemaMetadata.getVersion(), is(0L));
+        schemaMetadata.renew("t_order_item", createTableMetaData());
+        assertThat(schemaMetadata.getVersion(), is(1L));
+        assertTrue(schemaMetadata.getTables().containsKey("t_order_item"));
+    }
+    
+    @Test
+    public void assertRemoveIncreaseVersion() {
+        FederateSchemaMetadata schemaMetadata = new FederateSchemaMetadata("logic_db", Collections.singletonMap("t_order", createTableMetaData()));
+        schemaMetadata.remove("t_order");
+        assertThat(schemaMetadata.getVersion(), is(1L));
+        assertFalse(schemaMetadata.getTables().containsKey("t_order"));
+    }
+    
+    private TableMetaData createTableMetaData() {
+        return new TableMetaData("t_order", Collections.singletonList(new ColumnMetaData("order_id", 1, false, false, false)), Collections.emptyList());
+    }
+}
@@ -68,9 +68,9 @@ public final class DriverJDBCExecutor {
         try {
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, metaDataContexts.getProps());
             List<QueryResult> result = jdbcExecutor.execute(executionGroupContext, callback);
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             return result;
         } finally {
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             ExecuteProcessEngine.clean();
         }
     }
@@ -92,9 +92,9 @@ public final class DriverJDBCExecutor {
             SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
             List<Integer> results = jdbcLockEngine.execute(executionGroupContext, sqlStatementContext, routeUnits, callback);
             int result = isNeedAccumulate(metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules(), sqlStatementContext) ? accumulate(results) : results.get(0);
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             return result;
         } finally {
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             ExecuteProcessEngine.clean();
         }
     }
@@ -123,9 +123,9 @@ public final class DriverJDBCExecutor {
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, metaDataContexts.getProps());
             List<Boolean> results = jdbcLockEngine.execute(executionGroupContext, logicSQL.getSqlStatementContext(), routeUnits, callback);
             boolean result = null != results && !results.isEmpty() && null != results.get(0) && results.get(0);
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             return result;
         } finally {
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             ExecuteProcessEngine.clean();
         }
     }
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSpherePrepar
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
 import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOperationResultSet;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 
 import java.sql.ResultSet;
@@ -79,7 +80,11 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        try {
+            forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        } finally {
+            getMergedResult().close();
+        }
     }
     
     @Override
@@ -126,4 +131,6 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     public final void clearWarnings() throws SQLException {
         forceExecuteTemplate.execute(resultSets, ResultSet::clearWarnings);
     }
+    
+    protected abstract MergedResult getMergedResult();
 }
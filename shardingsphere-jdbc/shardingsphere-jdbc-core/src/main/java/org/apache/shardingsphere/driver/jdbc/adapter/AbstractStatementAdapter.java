@@ -22,6 +22,7 @@ import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTempla
 import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOperationStatement;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateExecutor;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
@@ -50,8 +51,13 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
+            if (null != getCurrentResultSet()) {
+                getCurrentResultSet().close();
+            }
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
-            getFederateExecutor().close();
+            if (null != getFederateExecutor()) {
+                getFederateExecutor().close();
+            }
         } finally {
             getRoutedStatements().clear();
         }
@@ -206,4 +212,6 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     protected abstract Collection<? extends Statement> getRoutedStatements();
     
     protected abstract FederateExecutor getFederateExecutor();
+    
+    protected abstract ResultSet getCurrentResultSet();
 }
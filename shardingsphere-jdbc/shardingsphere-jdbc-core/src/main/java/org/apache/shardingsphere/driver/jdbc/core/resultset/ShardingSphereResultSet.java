@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.driver.jdbc.core.resultset;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractResultSetAdapter;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -56,13 +58,14 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     private static final String BINARY = "Binary";
     
-    private final MergedResult mergeResultSet;
+    @Getter(AccessLevel.PROTECTED)
+    private final MergedResult mergedResult;
     
     private final Map<String, Integer> columnLabelAndIndexMap;
     
-    public ShardingSphereResultSet(final List<ResultSet> resultSets, final MergedResult mergeResultSet, final Statement statement, final ExecutionContext executionContext) throws SQLException {
+    public ShardingSphereResultSet(final List<ResultSet> resultSets, final MergedResult mergedResult, final Statement statement, final ExecutionContext executionContext) throws SQLException {
         super(resultSets, statement, executionContext);
-        this.mergeResultSet = mergeResultSet;
+        this.mergedResult = mergedResult;
         columnLabelAndIndexMap = createColumnLabelAndIndexMap(resultSets.get(0).getMetaData());
     }
     
@@ -76,17 +79,17 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public boolean next() throws SQLException {
-        return mergeResultSet.next();
+        return mergedResult.next();
     }
     
     @Override
     public boolean wasNull() throws SQLException {
-        return mergeResultSet.wasNull();
+        return mergedResult.wasNull();
     }
     
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
-        return (boolean) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, boolean.class), boolean.class);
+        return (boolean) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, boolean.class), boolean.class);
     }
     
     @Override
@@ -96,7 +99,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public byte getByte(final int columnIndex) throws SQLException {
-        return (byte) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, byte.class), byte.class);
+        return (byte) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, byte.class), byte.class);
     }
     
     @Override
@@ -106,7 +109,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public short getShort(final int columnIndex) throws SQLException {
-        return (short) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, short.class), short.class);
+        return (short) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, short.class), short.class);
     }
     
     @Override
@@ -116,7 +119,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public int getInt(final int columnIndex) throws SQLException {
-        return (int) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, int.class), int.class);
+        return (int) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, int.class), int.class);
     }
     
     @Override
@@ -126,7 +129,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public long getLong(final int columnIndex) throws SQLException {
-        return (long) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, long.class), long.class);
+        return (long) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, long.class), long.class);
     }
     
     @Override
@@ -136,7 +139,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public float getFloat(final int columnIndex) throws SQLException {
-        return (float) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, float.class), float.class);
+        return (float) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, float.class), float.class);
     }
     
     @Override
@@ -146,7 +149,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public double getDouble(final int columnIndex) throws SQLException {
-        return (double) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, double.class), double.class);
+        return (double) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, double.class), double.class);
     }
     
     @Override
@@ -156,7 +159,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public String getString(final int columnIndex) throws SQLException {
-        return (String) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, String.class), String.class);
+        return (String) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, String.class), String.class);
     }
     
     @Override
@@ -176,7 +179,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
-        return (BigDecimal) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, BigDecimal.class), BigDecimal.class);
+        return (BigDecimal) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, BigDecimal.class), BigDecimal.class);
     }
     
     @Override
@@ -186,7 +189,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
-        return (BigDecimal) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, BigDecimal.class), BigDecimal.class);
+        return (BigDecimal) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, BigDecimal.class), BigDecimal.class);
     }
     
     @Override
@@ -196,7 +199,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public byte[] getBytes(final int columnIndex) throws SQLException {
-        return (byte[]) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, byte[].class), byte[].class);
+        return (byte[]) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, byte[].class), byte[].class);
     }
     
     @Override
@@ -206,7 +209,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Date getDate(final int columnIndex) throws SQLException {
-        return (Date) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, Date.class), Date.class);
+        return (Date) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, Date.class), Date.class);
     }
     
     @Override
@@ -216,7 +219,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
-        return (Date) ResultSetUtil.convertValue(mergeResultSet.getCalendarValue(columnIndex, Date.class, cal), Date.class);
+        return (Date) ResultSetUtil.convertValue(mergedResult.getCalendarValue(columnIndex, Date.class, cal), Date.class);
     }
     
     @Override
@@ -226,7 +229,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Time getTime(final int columnIndex) throws SQLException {
-        return (Time) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, Time.class), Time.class);
+        return (Time) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, Time.class), Time.class);
     }
     
     @Override
@@ -236,7 +239,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Time getTime(final int columnIndex, final Calendar cal) throws SQLException {
-        return (Time) ResultSetUtil.convertValue(mergeResultSet.getCalendarValue(columnIndex, Time.class, cal), Time.class);
+        return (Time) ResultSetUtil.convertValue(mergedResult.getCalendarValue(columnIndex, Time.class, cal), Time.class);
     }
     
     @Override
@@ -246,7 +249,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
             
     @Override
     public Timestamp getTimestamp(final int columnIndex) throws SQLException {
-        return (Timestamp) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, Timestamp.class), Timestamp.class);
+        return (Timestamp) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, Timestamp.class), Timestamp.class);
     }
     
     @Override
@@ -256,7 +259,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
-        return (Timestamp) ResultSetUtil.convertValue(mergeResultSet.getCalendarValue(columnIndex, Timestamp.class, cal), Timestamp.class);
+        return (Timestamp) ResultSetUtil.convertValue(mergedResult.getCalendarValue(columnIndex, Timestamp.class, cal), Timestamp.class);
     }
     
     @Override
@@ -266,7 +269,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public InputStream getAsciiStream(final int columnIndex) throws SQLException {
-        return mergeResultSet.getInputStream(columnIndex, ASCII);
+        return mergedResult.getInputStream(columnIndex, ASCII);
     }
     
     @Override
@@ -276,7 +279,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public InputStream getUnicodeStream(final int columnIndex) throws SQLException {
-        return mergeResultSet.getInputStream(columnIndex, UNICODE);
+        return mergedResult.getInputStream(columnIndex, UNICODE);
     }
     
     @Override
@@ -286,7 +289,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public InputStream getBinaryStream(final int columnIndex) throws SQLException {
-        return mergeResultSet.getInputStream(columnIndex, BINARY);
+        return mergedResult.getInputStream(columnIndex, BINARY);
     }
     
     @Override
@@ -296,7 +299,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Reader getCharacterStream(final int columnIndex) throws SQLException {
-        return (Reader) mergeResultSet.getValue(columnIndex, Reader.class);
+        return (Reader) mergedResult.getValue(columnIndex, Reader.class);
     }
     
     @Override
@@ -306,7 +309,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Blob getBlob(final int columnIndex) throws SQLException {
-        return (Blob) mergeResultSet.getValue(columnIndex, Blob.class);
+        return (Blob) mergedResult.getValue(columnIndex, Blob.class);
     }
     
     @Override
@@ -316,7 +319,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Clob getClob(final int columnIndex) throws SQLException {
-        return (Clob) mergeResultSet.getValue(columnIndex, Clob.class);
+        return (Clob) mergedResult.getValue(columnIndex, Clob.class);
     }
     
     @Override
@@ -326,7 +329,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Array getArray(final int columnIndex) throws SQLException {
-        return (Array) mergeResultSet.getValue(columnIndex, Array.class);
+        return (Array) mergedResult.getValue(columnIndex, Array.class);
     }
     
     @Override
@@ -336,7 +339,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public URL getURL(final int columnIndex) throws SQLException {
-        return (URL) mergeResultSet.getValue(columnIndex, URL.class);
+        return (URL) mergedResult.getValue(columnIndex, URL.class);
     }
     
     @Override
@@ -346,7 +349,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public SQLXML getSQLXML(final int columnIndex) throws SQLException {
-        return (SQLXML) mergeResultSet.getValue(columnIndex, SQLXML.class);
+        return (SQLXML) mergedResult.getValue(columnIndex, SQLXML.class);
     }
     
     @Override
@@ -356,7 +359,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     @Override
     public Object getObject(final int columnIndex) throws SQLException {
-        return mergeResultSet.getValue(columnIndex, Object.class);
+        return mergedResult.getValue(columnIndex, Object.class);
     }
     
     @Override
@@ -368,7 +371,7 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     @Override
     public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
         if (LocalDateTime.class.equals(type) || LocalDate.class.equals(type) || LocalTime.class.equals(type)) {
-            return (T) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, Timestamp.class), type);
+            return (T) ResultSetUtil.convertValue(mergedResult.getValue(columnIndex, Timestamp.class), type);
         }
         throw new SQLFeatureNotSupportedException("getObject with type");
     }
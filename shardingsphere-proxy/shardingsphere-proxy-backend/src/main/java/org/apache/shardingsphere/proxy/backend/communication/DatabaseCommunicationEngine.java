@@ -49,6 +49,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -226,6 +227,7 @@ public final class DatabaseCommunicationEngine {
      */
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(closeMergedResult());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -236,6 +238,18 @@ public final class DatabaseCommunicationEngine {
         throw ex;
     }
     
+    private Collection<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Collections.emptyList();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Collections.singletonList(ex);
+        }
+        return Collections.emptyList();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -71,9 +71,9 @@ public final class ProxyJDBCExecutor {
             Collection<ExecuteResult> result = jdbcExecutor.execute(executionGroupContext,
                     ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, true),
                     ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, false));
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             return result;
         } finally {
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             ExecuteProcessEngine.clean();
         }
     }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.close;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLComStmtCloseExecutorTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    @Mock
+    private MySQLComStmtClosePacket packet;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @After
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(CONNECTION_ID);
+    }
+    
+    @Test
+    public void assertExecute() {
+        when(backendConnection.getConnectionId()).thenReturn(CONNECTION_ID);
+        MySQLBinaryStatementRegistry.getInstance().register(CONNECTION_ID);
+        int statementId = MySQLBinaryStatementRegistry.getInstance().register(CONNECTION_ID, "SELECT 1", mock(SQLStatement.class), 0);
+        int anotherStatementId = MySQLBinaryStatementRegistry.getInstance().register(CONNECTION_ID, "SELECT 2", mock(SQLStatement.class), 0);
+        when(packet.getStatementId()).thenReturn(statementId);
+        assertTrue(new MySQLComStmtCloseExecutor(packet, backendConnection).execute().isEmpty());
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(CONNECTION_ID, anotherStatementId));
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(CONNECTION_ID, statementId));
+    }
+}
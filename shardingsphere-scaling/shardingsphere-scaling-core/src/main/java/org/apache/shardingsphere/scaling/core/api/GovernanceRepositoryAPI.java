@@ -19,6 +19,7 @@ package org.apache.shardingsphere.scaling.core.api;
 
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEventListener;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 
 import java.util.List;
@@ -51,6 +52,32 @@ public interface GovernanceRepositoryAPI {
      */
     void deleteJobProgress(long jobId);
     
+    /**
+     * Persist data consistency check progress.
+     *
+     * @param jobId job id
+     * @param tableName table name
+     * @param progress data consistency check progress
+     */
+    void persistDataConsistencyCheckProgress(long jobId, String tableName, DataConsistencyCheckProgress progress);
+    
+    /**
+     * Get data consistency check progress.
+     *
+     * @param jobId job id
+     * @param tableName table name
+     * @return data consistency check progress
+     */
+    DataConsistencyCheckProgress getDataConsistencyCheckProgress(long jobId, String tableName);
+    
+    /**
+     * Delete data consistency check progress.
+     *
+     * @param jobId job id
+     * @param tableName table name
+     */
+    void deleteDataConsistencyCheckProgress(long jobId, String tableName);
+    
     /**
      * Delete job.
      *
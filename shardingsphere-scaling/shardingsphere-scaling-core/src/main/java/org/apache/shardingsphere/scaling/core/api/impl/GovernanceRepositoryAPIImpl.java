@@ -25,6 +25,7 @@ import org.apache.shardingsphere.governance.repository.api.listener.DataChangedE
 import org.apache.shardingsphere.scaling.core.api.GovernanceRepositoryAPI;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTask;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskProgress;
@@ -82,6 +83,22 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         repository.delete(String.format("%s/%d/offset", ScalingConstant.SCALING_ROOT, jobId));
     }
     
+    @Override
+    public void persistDataConsistencyCheckProgress(final long jobId, final String tableName, final DataConsistencyCheckProgress progress) {
+        repository.persist(getCheckPath(jobId, tableName), progress.toString());
+    }
+    
+    @Override
+    public DataConsistencyCheckProgress getDataConsistencyCheckProgress(final long jobId, final String tableName) {
+        String data = repository.get(getCheckPath(jobId, tableName));
+        return Strings.isNullOrEmpty(data) ? null : DataConsistencyCheckProgress.init(data);
+    }
+    
+    @Override
+    public void deleteDataConsistencyCheckProgress(final long jobId, final String tableName) {
+        repository.delete(getCheckPath(jobId, tableName));
+    }
+    
     @Override
     public void deleteJob(final long jobId) {
         log.info("delete job {}", jobId);
@@ -106,4 +123,8 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
     private String getOffsetPath(final long jobId, final int shardingItem) {
         return String.format("%s/%d/offset/%d", ScalingConstant.SCALING_ROOT, jobId, shardingItem);
     }
+    
+    private String getCheckPath(final long jobId, final String tableName) {
+        return String.format("%s/%d/check/%s", ScalingConstant.SCALING_ROOT, jobId, tableName);
+    }
 }
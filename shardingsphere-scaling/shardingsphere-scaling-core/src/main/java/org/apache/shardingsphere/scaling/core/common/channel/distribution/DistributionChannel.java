@@ -20,17 +20,20 @@ package org.apache.shardingsphere.scaling.core.common.channel.distribution;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
 import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.common.record.RecordUtil;
 
 import java.util.BitSet;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -49,7 +52,7 @@ public final class DistributionChannel implements Channel {
     
     private final BitSetChannel autoAckChannel = new AutoAcknowledgeChannel();
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<String, Integer> channelAssignment = new ConcurrentHashMap<>();
     
     private final AckCallback ackCallback;
     
@@ -57,7 +60,9 @@ public final class DistributionChannel implements Channel {
     
     private final Queue<Integer> toBeAckBitSetIndexes = new ConcurrentLinkedQueue<>();
     
-    private long lastAckIndex;
+    private volatile long lastAckIndex;
+    
+    private volatile boolean closed;
     
     private ScheduledExecutorService scheduleAckRecordsExecutor;
     
@@ -66,7 +71,7 @@ public final class DistributionChannel implements Channel {
         this.ackCallback = ackCallback;
         channels = new BitSetChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new BlockingQueueChannel();
+            channels[i] = new RingBufferChannel();
         }
         scheduleAckRecords();
     }
@@ -83,7 +88,7 @@ public final class DistributionChannel implements Channel {
                 pushRecord(record, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            pushDataRecord((DataRecord) record);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             pushRecord(record, -1);
         } else {
@@ -96,6 +101,31 @@ public final class DistributionChannel implements Channel {
         getBitSetChannel(index).pushRecord(record, indexAutoIncreaseGenerator.getAndIncrement());
     }
     
+    private void pushDataRecord(final DataRecord dataRecord) throws InterruptedException {
+        int index = getChannelIndex(dataRecord.getKey());
+        if (isPrimaryKeyUpdated(dataRecord) && index != getChannelIndex(dataRecord.getOldKey())) {
+            waitUntilAllAcknowledged();
+        }
+        pushRecord(dataRecord, index);
+    }
+    
+    private int getChannelIndex(final DataRecord.Key key) {
+        return Math.floorMod(key.hashCode(), channelNumber);
+    }
+    
+    private boolean isPrimaryKeyUpdated(final DataRecord dataRecord) {
+        return ScalingConstant.UPDATE.equals(dataRecord.getType()) && RecordUtil.extractPrimaryColumns(dataRecord).stream().anyMatch(Column::isUpdated);
+    }
+    
+    private synchronized void waitUntilAllAcknowledged() throws InterruptedException {
+        while (!closed && lastAckIndex < indexAutoIncreaseGenerator.get()) {
+            ackRecords0();
+            if (!closed && lastAckIndex < indexAutoIncreaseGenerator.get()) {
+                wait();
+            }
+        }
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
         return findChannel().fetchRecords(batchSize, timeout);
@@ -104,6 +134,7 @@ public final class DistributionChannel implements Channel {
     @Override
     public void ack() {
         findChannel().ack();
+        ackRecords0();
     }
     
     private synchronized void ackRecords0() {
@@ -117,6 +148,7 @@ public final class DistributionChannel implements Channel {
             for (BitSetChannel channel : channels) {
                 channel.clear(lastAckIndex);
             }
+            notifyAll();
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -171,6 +203,10 @@ public final class DistributionChannel implements Channel {
     
     @Override
     public void close() {
+        closed = true;
+        synchronized (this) {
+            notifyAll();
+        }
         scheduleAckRecordsExecutor.shutdown();
         ackRecords0();
         for (BitSetChannel each : channels) {
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel.distribution;
+
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer BitSet channel.
+ * 
+ * <p>
+ * Records are passed through a bounded ring buffer with single producer and single consumer.
+ * Producer parks when buffer is full and consumer parks until batch is full or timeout, they unpark each other instead of polling.
+ * </p>
+ */
+public final class RingBufferChannel extends AbstractBitSetChannel {
+    
+    private final int capacity;
+    
+    private final Record[] slots;
+    
+    private final int mask;
+    
+    private final AtomicLong head = new AtomicLong();
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    private volatile int waitingBatchSize;
+    
+    private volatile boolean closed;
+    
+    private long fetchedIndex;
+    
+    public RingBufferChannel() {
+        this(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
+    }
+    
+    public RingBufferChannel(final int capacity) {
+        this.capacity = capacity;
+        int slotSize = 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(capacity, 2) - 1));
+        slots = new Record[slotSize];
+        mask = slotSize - 1;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord, final long index) throws InterruptedException {
+        long currentTail = tail.get();
+        while (currentTail - head.get() >= capacity) {
+            if (closed) {
+                return;
+            }
+            waitingProducer = Thread.currentThread();
+            if (currentTail - head.get() >= capacity && !closed) {
+                LockSupport.park(this);
+            }
+            waitingProducer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        getManualBitSet().set(index);
+        slots[(int) (currentTail & mask)] = dataRecord;
+        tail.set(currentTail + 1);
+        Thread consumer = waitingConsumer;
+        if (null != consumer && currentTail + 1 - head.get() >= waitingBatchSize) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeout) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+        long currentHead = head.get();
+        while (!closed && tail.get() - currentHead < batchSize && !Thread.currentThread().isInterrupted()) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                break;
+            }
+            waitingBatchSize = batchSize;
+            waitingConsumer = Thread.currentThread();
+            if (tail.get() - currentHead < batchSize && !closed) {
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+            waitingConsumer = null;
+        }
+        int size = (int) Math.min(batchSize, tail.get() - currentHead);
+        List<Record> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int slot = (int) ((currentHead + i) & mask);
+            result.add(slots[slot]);
+            slots[slot] = null;
+        }
+        head.set(currentHead + size);
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+        getToBeAckRecords().addAll(result);
+        fetchedIndex = getManualBitSet().getEndIndex(fetchedIndex, result.size());
+        return result;
+    }
+    
+    @Override
+    public void ack() {
+        setAcknowledgedIndex(fetchedIndex);
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+        Thread consumer = waitingConsumer;
+        if (null != consumer) {
+            LockSupport.unpark(consumer);
+        }
+        super.close();
+    }
+}
@@ -76,21 +76,41 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
     public String buildInsertSQL(final DataRecord dataRecord) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()));
+            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns(), 1));
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        return sqlCacheMap.get(sqlCacheKey) + buildInsertSQLSuffix(dataRecord);
+    }
+    
+    @Override
+    public String buildMultiValuesInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        return buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns(), rowCount) + buildInsertSQLSuffix(dataRecord);
+    }
+    
+    /**
+     * Build insert SQL suffix, such as conflict handling clause.
+     *
+     * @param dataRecord data record
+     * @return insert SQL suffix
+     */
+    protected String buildInsertSQLSuffix(final DataRecord dataRecord) {
+        return "";
     }
     
-    private String buildInsertSQLInternal(final String tableName, final List<Column> columns) {
+    private String buildInsertSQLInternal(final String tableName, final List<Column> columns, final int rowCount) {
         StringBuilder columnsLiteral = new StringBuilder();
-        StringBuilder holder = new StringBuilder();
+        StringBuilder holder = new StringBuilder("(");
         for (Column each : columns) {
             columnsLiteral.append(String.format("%s,", quote(each.getName())));
             holder.append("?,");
         }
         columnsLiteral.setLength(columnsLiteral.length() - 1);
-        holder.setLength(holder.length() - 1);
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", quote(tableName), columnsLiteral, holder);
+        holder.setCharAt(holder.length() - 1, ')');
+        StringBuilder values = new StringBuilder(holder.length() * rowCount + rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            values.append(holder).append(',');
+        }
+        values.setLength(values.length() - 1);
+        return String.format("INSERT INTO %s(%s) VALUES%s", quote(tableName), columnsLiteral, values);
     }
     
     @Override
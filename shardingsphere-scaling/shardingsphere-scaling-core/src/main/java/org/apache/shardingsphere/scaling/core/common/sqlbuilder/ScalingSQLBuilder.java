@@ -35,6 +35,15 @@ public interface ScalingSQLBuilder {
      */
     String buildInsertSQL(DataRecord dataRecord);
     
+    /**
+     * Build multi-values insert SQL.
+     *
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return multi-values insert SQL
+     */
+    String buildMultiValuesInsertSQL(DataRecord dataRecord, int rowCount);
+    
     /**
      * Build update SQL.
      *
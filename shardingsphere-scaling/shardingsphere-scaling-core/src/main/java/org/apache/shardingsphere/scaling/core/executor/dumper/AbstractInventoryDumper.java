@@ -83,18 +83,10 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
     
     private void dump() {
         try (Connection conn = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection()) {
-            String sql = String.format("SELECT * FROM %s %s", inventoryDumperConfig.getTableName(), getWhereCondition(inventoryDumperConfig.getPrimaryKey(), inventoryDumperConfig.getPosition()));
-            PreparedStatement ps = createPreparedStatement(conn, sql);
-            ResultSet rs = ps.executeQuery();
-            ResultSetMetaData metaData = rs.getMetaData();
-            while (isRunning() && rs.next()) {
-                DataRecord record = new DataRecord(newPosition(rs), metaData.getColumnCount());
-                record.setType(ScalingConstant.INSERT);
-                record.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
-                for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                    record.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
-                }
-                pushRecord(record);
+            if (null == inventoryDumperConfig.getPrimaryKey() || !(inventoryDumperConfig.getPosition() instanceof PrimaryKeyPosition)) {
+                dumpAll(conn);
+            } else {
+                dumpByPrimaryKey(conn);
             }
             pushRecord(new FinishedRecord(new FinishedPosition()));
         } catch (final SQLException ex) {
@@ -106,12 +98,61 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
         }
     }
     
-    private String getWhereCondition(final String primaryKey, final ScalingPosition<?> position) {
-        if (null == primaryKey || null == position) {
-            return "";
+    private void dumpAll(final Connection conn) throws SQLException {
+        try (PreparedStatement ps = createPreparedStatement(conn, String.format("SELECT * FROM %s", inventoryDumperConfig.getTableName()));
+             ResultSet rs = ps.executeQuery()) {
+            String[] columnNames = getColumnNames(rs.getMetaData());
+            while (isRunning() && rs.next()) {
+                pushRecord(createDataRecord(rs, columnNames));
+            }
+        }
+    }
+    
+    private void dumpByPrimaryKey(final Connection conn) throws SQLException {
+        String primaryKey = inventoryDumperConfig.getPrimaryKey();
+        long endValue = ((PrimaryKeyPosition) inventoryDumperConfig.getPosition()).getEndValue();
+        long lastValue = ((PrimaryKeyPosition) inventoryDumperConfig.getPosition()).getBeginValue() - 1;
+        int batchSize = inventoryDumperConfig.getBatchSize();
+        String sql = String.format("SELECT * FROM %s WHERE %s > ? AND %s <= ? ORDER BY %s LIMIT ?", inventoryDumperConfig.getTableName(), primaryKey, primaryKey, primaryKey);
+        try (PreparedStatement ps = createPreparedStatement(conn, sql)) {
+            String[] columnNames = null;
+            int rowCount = batchSize;
+            while (isRunning() && rowCount >= batchSize) {
+                ps.setLong(1, lastValue);
+                ps.setLong(2, endValue);
+                ps.setInt(3, batchSize);
+                rowCount = 0;
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (null == columnNames) {
+                        columnNames = getColumnNames(rs.getMetaData());
+                    }
+                    while (isRunning() && rs.next()) {
+                        DataRecord record = createDataRecord(rs, columnNames);
+                        lastValue = ((PrimaryKeyPosition) record.getPosition()).getBeginValue();
+                        pushRecord(record);
+                        rowCount++;
+                    }
+                }
+            }
+        }
+    }
+    
+    private String[] getColumnNames(final ResultSetMetaData metaData) throws SQLException {
+        String[] result = new String[metaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = metaData.getColumnName(i + 1);
+        }
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final ResultSet rs, final String[] columnNames) throws SQLException {
+        DataRecord result = new DataRecord(newPosition(rs), columnNames.length);
+        result.setType(ScalingConstant.INSERT);
+        result.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
+        for (int i = 0; i < columnNames.length; i++) {
+            result.addColumn(new Column(columnNames[i], readValue(rs, i + 1), true, tableMetaData.isPrimaryKey(i)));
         }
-        PrimaryKeyPosition primaryKeyPosition = (PrimaryKeyPosition) position;
-        return String.format("WHERE %s BETWEEN %d AND %d", primaryKey, primaryKeyPosition.getBeginValue(), primaryKeyPosition.getEndValue());
+        return result;
     }
     
     private ScalingPosition<?> newPosition(final ResultSet rs) throws SQLException {
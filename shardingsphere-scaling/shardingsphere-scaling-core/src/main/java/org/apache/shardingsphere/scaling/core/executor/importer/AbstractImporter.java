@@ -52,6 +52,12 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_MULTI_VALUES_PARAMETER_COUNT = Short.MAX_VALUE;
+    
+    private static final long MAX_MULTI_VALUES_INSERT_BYTES = 1024 * 1024L;
+    
+    private static final int ESTIMATED_COLUMN_BYTES = 16;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSourceManager dataSourceManager;
@@ -155,38 +161,96 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        String insertSql = scalingSqlBuilder.buildInsertSQL(dataRecords.get(0));
+        int fromIndex = 0;
+        while (fromIndex < dataRecords.size()) {
+            int toIndex = findMultiValuesInsertEndIndex(dataRecords, fromIndex);
+            executeMultiValuesInsert(connection, dataRecords.subList(fromIndex, toIndex));
+            fromIndex = toIndex;
+        }
+    }
+    
+    private int findMultiValuesInsertEndIndex(final List<DataRecord> dataRecords, final int fromIndex) {
+        int columnCount = dataRecords.get(fromIndex).getColumnCount();
+        int maxRowCount = Math.max(1, MAX_MULTI_VALUES_PARAMETER_COUNT / Math.max(1, columnCount));
+        long bytes = 0L;
+        int result = fromIndex;
+        while (result < dataRecords.size() && result - fromIndex < maxRowCount && dataRecords.get(result).getColumnCount() == columnCount) {
+            bytes += estimateBytes(dataRecords.get(result));
+            if (result > fromIndex && bytes > MAX_MULTI_VALUES_INSERT_BYTES) {
+                break;
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final DataRecord dataRecord) {
+        long result = 0L;
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            Object value = dataRecord.getColumn(i).getValue();
+            if (value instanceof String) {
+                result += ((String) value).length();
+            } else if (value instanceof byte[]) {
+                result += ((byte[]) value).length;
+            } else {
+                result += ESTIMATED_COLUMN_BYTES;
+            }
+        }
+        return result;
+    }
+    
+    private void executeMultiValuesInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        String insertSql = 1 == dataRecords.size()
+                ? scalingSqlBuilder.buildInsertSQL(dataRecords.get(0)) : scalingSqlBuilder.buildMultiValuesInsertSQL(dataRecords.get(0), dataRecords.size());
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
+            int parameterIndex = 1;
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    ps.setObject(i + 1, each.getColumn(i).getValue());
+                    ps.setObject(parameterIndex++, each.getColumn(i).getValue());
                 }
-                ps.addBatch();
             }
-            ps.executeBatch();
+            ps.executeUpdate();
         }
     }
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+        PreparedStatement ps = null;
+        String preparedSql = null;
+        try {
+            for (DataRecord each : dataRecords) {
+                List<Column> conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
+                String updateSql = scalingSqlBuilder.buildUpdateSQL(each, conditionColumns);
+                if (!updateSql.equals(preparedSql)) {
+                    if (null != ps) {
+                        ps.executeBatch();
+                        ps.close();
+                    }
+                    ps = connection.prepareStatement(updateSql);
+                    ps.setQueryTimeout(30);
+                    preparedSql = updateSql;
+                }
+                setUpdateParameters(ps, each, conditionColumns);
+                ps.addBatch();
+            }
+            if (null != ps) {
+                ps.executeBatch();
+            }
+        } finally {
+            if (null != ps) {
+                ps.close();
+            }
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfig.getShardingColumnsMap().get(record.getTableName()));
+    private void setUpdateParameters(final PreparedStatement ps, final DataRecord record, final List<Column> conditionColumns) throws SQLException {
         List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(record);
-        String updateSql = scalingSqlBuilder.buildUpdateSQL(record, conditionColumns);
-        try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                ps.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
-            }
-            ps.execute();
+        for (int i = 0; i < updatedColumns.size(); i++) {
+            ps.setObject(i + 1, updatedColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
         }
     }
     
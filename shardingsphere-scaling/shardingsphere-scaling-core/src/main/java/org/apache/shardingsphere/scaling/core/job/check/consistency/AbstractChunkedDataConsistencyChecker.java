@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.check.consistency;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceWrapper;
+import org.apache.shardingsphere.scaling.core.common.exception.DataCheckFailException;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Abstract chunked data consistency checker.
+ *
+ * <p>
+ * Tables are split into primary key ranges, row checksum of each range is calculated on source and target in parallel,
+ * and mismatched ranges are bisected down to rows.
+ * </p>
+ */
+@Slf4j
+public abstract class AbstractChunkedDataConsistencyChecker extends AbstractDataConsistencyChecker {
+    
+    private static final String THREAD_NAME_FORMAT = "scaling-data-check-%d";
+    
+    private static final int CHUNK_SIZE = 100000;
+    
+    private static final int MAX_BISECT_RANGE_COUNT = 1024;
+    
+    private static final int MAX_LOGGED_ROW_COUNT = 100;
+    
+    protected AbstractChunkedDataConsistencyChecker(final JobContext jobContext) {
+        super(jobContext);
+    }
+    
+    @Override
+    public final Map<String, Boolean> dataCheck() {
+        int concurrency = Math.max(1, getJobContext().getJobConfig().getHandleConfig().getConcurrency());
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency * 2, ExecutorThreadFactoryBuilder.build(THREAD_NAME_FORMAT));
+        try {
+            Map<String, Boolean> result = new LinkedHashMap<>();
+            for (Entry<String, String> entry : getActualTableNameMap().entrySet()) {
+                result.put(entry.getValue(), dataValid(executorService, concurrency, entry.getKey(), entry.getValue()));
+            }
+            return result;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private Map<String, String> getActualTableNameMap() {
+        Set<String> logicTableNames = new HashSet<>();
+        return getJobContext().getTaskConfigs().stream().flatMap(each -> each.getDumperConfig().getTableNameMap().entrySet().stream())
+                .filter(entry -> logicTableNames.add(entry.getValue()))
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+    }
+    
+    private boolean dataValid(final ExecutorService executorService, final int concurrency, final String actualTableName, final String logicTableName) {
+        try (DataSourceWrapper sourceDataSource = getSourceDataSource();
+             DataSourceWrapper targetDataSource = getTargetDataSource()) {
+            Map<String, Integer> columns = getColumns(sourceDataSource, actualTableName);
+            Optional<String> primaryKey = findIntegerPrimaryKey(sourceDataSource, actualTableName, columns);
+            if (!primaryKey.isPresent()) {
+                log.info("Table {} has no single integer primary key, check data with whole table checksum.", logicTableName);
+                List<PrimaryKeyPosition> ranges = Collections.singletonList(null);
+                return getMismatchedRanges(executorService, sourceDataSource, targetDataSource, buildChecksumSQL(logicTableName, columns.keySet()), ranges).isEmpty();
+            }
+            return rangeDataValid(executorService, concurrency, sourceDataSource, targetDataSource, logicTableName, columns.keySet(), primaryKey.get());
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("table %s data check failed.", logicTableName), ex);
+        }
+    }
+    
+    private Map<String, Integer> getColumns(final DataSource dataSource, final String tableName) throws SQLException {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), null, tableName, "%")) {
+            while (resultSet.next()) {
+                result.put(resultSet.getString("COLUMN_NAME"), resultSet.getInt("DATA_TYPE"));
+            }
+        }
+        return result;
+    }
+    
+    private Optional<String> findIntegerPrimaryKey(final DataSource dataSource, final String tableName, final Map<String, Integer> columns) throws SQLException {
+        List<String> primaryKeys = new LinkedList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet resultSet = metaData.getPrimaryKeys(connection.getCatalog(), null, tableName)) {
+                while (resultSet.next()) {
+                    primaryKeys.add(resultSet.getString("COLUMN_NAME"));
+                }
+            }
+        }
+        if (1 != primaryKeys.size() || !isIntegerType(columns.getOrDefault(primaryKeys.get(0), Types.OTHER))) {
+            return Optional.empty();
+        }
+        return Optional.of(primaryKeys.get(0));
+    }
+    
+    private boolean isIntegerType(final int columnType) {
+        return Types.INTEGER == columnType || Types.BIGINT == columnType || Types.SMALLINT == columnType || Types.TINYINT == columnType;
+    }
+    
+    private boolean rangeDataValid(final ExecutorService executorService, final int concurrency, final DataSource sourceDataSource, final DataSource targetDataSource,
+                                   final String logicTableName, final Collection<String> columns, final String primaryKey) throws SQLException {
+        String checksumSQL = buildRangeChecksumSQL(logicTableName, columns, primaryKey);
+        DataConsistencyCheckProgress progress = loadCheckProgress(logicTableName);
+        boolean result = null == progress || progress.isDataValid();
+        boolean finished = null != progress && Long.MAX_VALUE == progress.getCheckedPosition();
+        long beginValue = null == progress ? Long.MIN_VALUE : progress.getCheckedPosition() + 1;
+        if (null != progress) {
+            log.info("Resume data check of table {} from primary key {}.", logicTableName, beginValue);
+        }
+        try (Connection connection = sourceDataSource.getConnection();
+             PreparedStatement splitStatement = connection.prepareStatement(getSqlBuilder().buildSplitByPrimaryKeyRangeSQL(logicTableName, primaryKey))) {
+            while (!finished) {
+                List<PrimaryKeyPosition> ranges = new ArrayList<>(concurrency);
+                while (!finished && ranges.size() < concurrency) {
+                    Optional<Long> endValue = findRangeEndValue(splitStatement, beginValue);
+                    finished = !endValue.isPresent() || Long.MAX_VALUE == endValue.get();
+                    ranges.add(new PrimaryKeyPosition(beginValue, finished ? Long.MAX_VALUE : endValue.get()));
+                    beginValue = finished ? beginValue : endValue.get() + 1;
+                }
+                List<PrimaryKeyPosition> mismatchedRanges = getMismatchedRanges(executorService, sourceDataSource, targetDataSource, checksumSQL, ranges);
+                if (!mismatchedRanges.isEmpty()) {
+                    result = false;
+                    bisect(executorService, sourceDataSource, targetDataSource, checksumSQL, logicTableName, mismatchedRanges);
+                }
+                persistCheckProgress(logicTableName, new DataConsistencyCheckProgress(ranges.get(ranges.size() - 1).getEndValue(), result));
+            }
+        }
+        deleteCheckProgress(logicTableName);
+        return result;
+    }
+    
+    private Optional<Long> findRangeEndValue(final PreparedStatement splitStatement, final long beginValue) throws SQLException {
+        splitStatement.setLong(1, beginValue);
+        splitStatement.setLong(2, CHUNK_SIZE);
+        try (ResultSet resultSet = splitStatement.executeQuery()) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long result = resultSet.getLong(1);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(result);
+        }
+    }
+    
+    private void bisect(final ExecutorService executorService, final DataSource sourceDataSource, final DataSource targetDataSource,
+                        final String checksumSQL, final String logicTableName, final List<PrimaryKeyPosition> mismatchedRanges) {
+        List<Long> mismatchedRows = new LinkedList<>();
+        List<PrimaryKeyPosition> pendingRanges = mismatchedRanges;
+        while (!pendingRanges.isEmpty() && pendingRanges.size() <= MAX_BISECT_RANGE_COUNT) {
+            List<PrimaryKeyPosition> halfRanges = new LinkedList<>();
+            for (PrimaryKeyPosition each : pendingRanges) {
+                if (each.getBeginValue() == each.getEndValue()) {
+                    mismatchedRows.add(each.getBeginValue());
+                    continue;
+                }
+                long middleValue = (each.getBeginValue() >> 1) + (each.getEndValue() >> 1) + (each.getBeginValue() & each.getEndValue() & 1);
+                halfRanges.add(new PrimaryKeyPosition(each.getBeginValue(), middleValue));
+                halfRanges.add(new PrimaryKeyPosition(middleValue + 1, each.getEndValue()));
+            }
+            pendingRanges = halfRanges.isEmpty() ? Collections.emptyList() : getMismatchedRanges(executorService, sourceDataSource, targetDataSource, checksumSQL, halfRanges);
+        }
+        if (!mismatchedRows.isEmpty()) {
+            log.warn("Table {} data mismatched, row count {}, primary keys {}.", logicTableName, mismatchedRows.size(),
+                    mismatchedRows.stream().limit(MAX_LOGGED_ROW_COUNT).collect(Collectors.toList()));
+        }
+        if (!pendingRanges.isEmpty()) {
+            log.warn("Table {} data mismatched, stop bisecting {} primary key ranges, ranges {}.", logicTableName, pendingRanges.size(),
+                    pendingRanges.stream().limit(MAX_LOGGED_ROW_COUNT).collect(Collectors.toList()));
+        }
+    }
+    
+    private List<PrimaryKeyPosition> getMismatchedRanges(final ExecutorService executorService, final DataSource sourceDataSource, final DataSource targetDataSource,
+                                                         final String checksumSQL, final List<PrimaryKeyPosition> ranges) {
+        List<Future<RowChecksum>> sourceFutures = new ArrayList<>(ranges.size());
+        List<Future<RowChecksum>> targetFutures = new ArrayList<>(ranges.size());
+        for (PrimaryKeyPosition each : ranges) {
+            sourceFutures.add(executorService.submit(() -> checksum(sourceDataSource, checksumSQL, each)));
+            targetFutures.add(executorService.submit(() -> checksum(targetDataSource, checksumSQL, each)));
+        }
+        List<PrimaryKeyPosition> result = new LinkedList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            if (!getChecksum(sourceFutures.get(i)).equals(getChecksum(targetFutures.get(i)))) {
+                result.add(ranges.get(i));
+            }
+        }
+        return result;
+    }
+    
+    private RowChecksum getChecksum(final Future<RowChecksum> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataCheckFailException("data check interrupted.", ex);
+        } catch (final ExecutionException ex) {
+            throw new DataCheckFailException("calculate checksum failed.", ex.getCause());
+        }
+    }
+    
+    private RowChecksum checksum(final DataSource dataSource, final String checksumSQL, final PrimaryKeyPosition range) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(checksumSQL)) {
+            if (null != range) {
+                preparedStatement.setLong(1, range.getBeginValue());
+                preparedStatement.setLong(2, range.getEndValue());
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return new RowChecksum(resultSet.getLong(1), resultSet.getLong(2));
+            }
+        }
+    }
+    
+    /**
+     * Load data consistency check progress of table.
+     *
+     * @param tableName table name
+     * @return data consistency check progress, null if check is not started
+     */
+    protected DataConsistencyCheckProgress loadCheckProgress(final String tableName) {
+        return ScalingAPIFactory.getGovernanceRepositoryAPI().getDataConsistencyCheckProgress(getJobContext().getJobId(), tableName);
+    }
+    
+    /**
+     * Persist data consistency check progress of table.
+     *
+     * @param tableName table name
+     * @param progress data consistency check progress
+     */
+    protected void persistCheckProgress(final String tableName, final DataConsistencyCheckProgress progress) {
+        ScalingAPIFactory.getGovernanceRepositoryAPI().persistDataConsistencyCheckProgress(getJobContext().getJobId(), tableName, progress);
+    }
+    
+    /**
+     * Delete data consistency check progress of table.
+     *
+     * @param tableName table name
+     */
+    protected void deleteCheckProgress(final String tableName) {
+        ScalingAPIFactory.getGovernanceRepositoryAPI().deleteDataConsistencyCheckProgress(getJobContext().getJobId(), tableName);
+    }
+    
+    /**
+     * Build checksum SQL of whole table, which returns row count and row checksum.
+     *
+     * @param tableName table name
+     * @param columns column names
+     * @return checksum SQL
+     */
+    protected abstract String buildChecksumSQL(String tableName, Collection<String> columns);
+    
+    /**
+     * Build checksum SQL of primary key range, which returns row count and row checksum, parameters are begin and end value of primary key.
+     *
+     * @param tableName table name
+     * @param columns column names
+     * @param primaryKey primary key
+     * @return range checksum SQL
+     */
+    protected abstract String buildRangeChecksumSQL(String tableName, Collection<String> columns, String primaryKey);
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class RowChecksum {
+    
+        private final long count;
+    
+        private final long checksum;
+    }
+}
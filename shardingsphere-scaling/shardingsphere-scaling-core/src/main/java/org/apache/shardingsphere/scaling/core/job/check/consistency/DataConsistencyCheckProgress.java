@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.check.consistency;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Data consistency check progress of table, which is used to resume interrupted check.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DataConsistencyCheckProgress {
+    
+    private final long checkedPosition;
+    
+    private final boolean dataValid;
+    
+    /**
+     * Init by string data.
+     *
+     * @param data string data
+     * @return data consistency check progress
+     */
+    public static DataConsistencyCheckProgress init(final String data) {
+        String[] array = data.split(",");
+        Preconditions.checkArgument(array.length == 2, "Unknown data consistency check progress: " + data);
+        return new DataConsistencyCheckProgress(Long.parseLong(array[0]), Boolean.parseBoolean(array[1]));
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%d,%s", checkedPosition, dataValid);
+    }
+}
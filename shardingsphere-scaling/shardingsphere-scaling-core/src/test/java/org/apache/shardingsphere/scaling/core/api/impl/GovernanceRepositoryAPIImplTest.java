@@ -30,6 +30,7 @@ import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.fixture.EmbedTestingServer;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTaskFactory;
@@ -47,6 +48,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class GovernanceRepositoryAPIImplTest {
     
@@ -67,6 +69,16 @@ public final class GovernanceRepositoryAPIImplTest {
         assertThat(actual.toString(), is(mockYamlJobProgress()));
     }
     
+    @Test
+    public void assertPersistDataConsistencyCheckProgress() {
+        governanceRepositoryAPI.persistDataConsistencyCheckProgress(2L, "t_order", new DataConsistencyCheckProgress(1000L, true));
+        DataConsistencyCheckProgress actual = governanceRepositoryAPI.getDataConsistencyCheckProgress(2L, "t_order");
+        assertThat(actual.getCheckedPosition(), is(1000L));
+        assertTrue(actual.isDataValid());
+        governanceRepositoryAPI.deleteDataConsistencyCheckProgress(2L, "t_order");
+        assertNull(governanceRepositoryAPI.getDataConsistencyCheckProgress(2L, "t_order"));
+    }
+    
     @Test
     public void assertDeleteJob() {
         governanceRepositoryAPI.persist(ScalingConstant.SCALING_ROOT + "/1", "");
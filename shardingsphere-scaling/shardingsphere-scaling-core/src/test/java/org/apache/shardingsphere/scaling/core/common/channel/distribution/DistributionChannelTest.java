@@ -21,6 +21,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
+import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
@@ -32,14 +34,21 @@ import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -65,7 +74,86 @@ public final class DistributionChannelTest {
     
     @Test
     public void assertBroadcastFinishedRecord() {
-        execute(records -> assertThat(records.size(), is(2)), 2, new FinishedRecord(new PlaceholderPosition()));
+        List<Record> ackRecords = new CopyOnWriteArrayList<>();
+        execute(ackRecords::addAll, 2, new FinishedRecord(new PlaceholderPosition()));
+        assertThat(ackRecords.size(), is(2));
+    }
+    
+    @Test
+    public void assertSamePrimaryKeyRecordsDistributedToSameChannelInOrder() throws InterruptedException {
+        int count = 20;
+        CountDownLatch countDownLatch = new CountDownLatch(count);
+        Map<Object, List<Long>> fetchedThreadIds = new ConcurrentHashMap<>();
+        Map<Object, List<Integer>> fetchedPositions = new ConcurrentHashMap<>();
+        DistributionChannel distributionChannel = new DistributionChannel(2, ackRecords -> {
+        });
+        for (int i = 0; i < 2; i++) {
+            new Thread(() -> {
+                while (true) {
+                    List<Record> records = distributionChannel.fetchRecords(100, 0);
+                    distributionChannel.ack();
+                    for (Record each : records) {
+                        Object primaryKey = ((DataRecord) each).getPrimaryKeyValue().get(0);
+                        fetchedThreadIds.computeIfAbsent(primaryKey, key -> new CopyOnWriteArrayList<>()).add(Thread.currentThread().getId());
+                        fetchedPositions.computeIfAbsent(primaryKey, key -> new CopyOnWriteArrayList<>()).add(((IntPosition) each.getPosition()).getId());
+                        countDownLatch.countDown();
+                    }
+                }
+            }).start();
+        }
+        for (int i = 1; i <= count; i++) {
+            distributionChannel.pushRecord(mockDataRecord(i, i % 3));
+        }
+        countDownLatch.await();
+        distributionChannel.close();
+        for (List<Long> each : fetchedThreadIds.values()) {
+            assertThat(new HashSet<>(each).size(), is(1));
+        }
+        for (List<Integer> each : fetchedPositions.values()) {
+            List<Integer> sorted = new ArrayList<>(each);
+            Collections.sort(sorted);
+            assertThat(each, is(sorted));
+        }
+    }
+    
+    @Test
+    public void assertCloseWhenWaitingUntilAllAcknowledged() throws InterruptedException {
+        DistributionChannel distributionChannel = new DistributionChannel(2, ackRecords -> {
+        });
+        distributionChannel.pushRecord(mockDataRecord(1, 0));
+        int oldPrimaryKey = 0;
+        int primaryKey = 1;
+        while (getChannelIndex(oldPrimaryKey) == getChannelIndex(primaryKey)) {
+            primaryKey++;
+        }
+        DataRecord primaryKeyUpdatedRecord = new DataRecord(new IntPosition(2), 1);
+        primaryKeyUpdatedRecord.setTableName("t_order");
+        primaryKeyUpdatedRecord.setType(ScalingConstant.UPDATE);
+        primaryKeyUpdatedRecord.addColumn(new Column("id", oldPrimaryKey, primaryKey, true, true));
+        Thread pushThread = new Thread(() -> pushRecordQuietly(distributionChannel, primaryKeyUpdatedRecord));
+        pushThread.start();
+        pushThread.join(200L);
+        assertTrue(pushThread.isAlive());
+        distributionChannel.close();
+        pushThread.join(5000L);
+        assertFalse(pushThread.isAlive());
+    }
+    
+    private int getChannelIndex(final int primaryKey) {
+        return Math.floorMod(new DataRecord.Key("t_order", Collections.singletonList(primaryKey)).hashCode(), 2);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void pushRecordQuietly(final DistributionChannel distributionChannel, final Record record) {
+        distributionChannel.pushRecord(record);
+    }
+    
+    private DataRecord mockDataRecord(final int id, final int primaryKey) {
+        DataRecord result = new DataRecord(new IntPosition(id), 1);
+        result.setTableName("t_order");
+        result.setType(ScalingConstant.UPDATE);
+        result.addColumn(new Column("id", primaryKey, false, true));
+        return result;
     }
     
     @SneakyThrows(InterruptedException.class)
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel.distribution;
+
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+
+public final class RingBufferChannelTest {
+    
+    @Test
+    public void assertFetchRecordsWhenTimeout() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(16);
+        channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 0);
+        List<Record> actual = channel.fetchRecords(10, 0);
+        assertThat(actual.size(), is(1));
+    }
+    
+    @Test(timeout = 5000L)
+    public void assertFetchRecordsWhenBatchFull() {
+        RingBufferChannel channel = new RingBufferChannel(16);
+        new Thread(() -> pushRecords(channel, 0, 10)).start();
+        List<Record> actual = channel.fetchRecords(10, 60);
+        assertThat(actual.size(), is(10));
+    }
+    
+    @Test(timeout = 5000L)
+    public void assertPushRecordWhenBufferFull() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(4);
+        CountDownLatch pushed = new CountDownLatch(1);
+        pushRecords(channel, 0, 4);
+        new Thread(() -> {
+            pushRecords(channel, 4, 1);
+            pushed.countDown();
+        }).start();
+        assertFalse(pushed.await(100L, TimeUnit.MILLISECONDS));
+        assertThat(channel.fetchRecords(4, 0).size(), is(4));
+        pushed.await();
+        assertThat(channel.fetchRecords(4, 0).size(), is(1));
+    }
+    
+    @Test
+    public void assertAck() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(16);
+        pushRecords(channel, 0, 3);
+        channel.fetchRecords(2, 0);
+        assertThat(channel.getAckBitSet(0).cardinality(), is(0));
+        channel.ack();
+        assertThat(channel.getAckBitSet(0).cardinality(), is(2));
+        assertNotNull(channel.removeAckRecord());
+    }
+    
+    private void pushRecords(final RingBufferChannel channel, final int fromIndex, final int count) {
+        try {
+            for (int i = fromIndex; i < fromIndex + count; i++) {
+                channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), i);
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
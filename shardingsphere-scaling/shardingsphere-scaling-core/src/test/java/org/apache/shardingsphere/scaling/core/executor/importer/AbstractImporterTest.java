@@ -41,14 +41,18 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,6 +63,8 @@ public final class AbstractImporterTest {
     
     private static final String INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?)";
     
+    private static final String MULTI_VALUES_INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?),(?,?,?)";
+    
     private static final String DELETE_SQL = "DELETE FROM test_table WHERE id = ? and user = ?";
     
     private static final String UPDATE_SQL = "UPDATE test_table SET user = ?,status = ? WHERE id = ? and user = ?";
@@ -110,7 +116,23 @@ public final class AbstractImporterTest {
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteMultiValuesInsertDataRecords() throws SQLException {
+        DataRecord insertRecord = getDataRecord("INSERT");
+        DataRecord anotherInsertRecord = getDataRecord("INSERT", 2);
+        when(scalingSqlBuilder.buildMultiValuesInsertSQL(any(DataRecord.class), eq(2))).thenReturn(MULTI_VALUES_INSERT_SQL);
+        when(connection.prepareStatement(MULTI_VALUES_INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(insertRecord, anotherInsertRecord));
+        jdbcImporter.run();
+        verify(preparedStatement).setObject(2, 10);
+        verify(preparedStatement).setObject(3, "INSERT");
+        verify(preparedStatement).setObject(5, 10);
+        verify(preparedStatement).setObject(6, "INSERT");
+        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement, never()).addBatch();
     }
     
     @Test
@@ -136,7 +158,8 @@ public final class AbstractImporterTest {
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).execute();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -152,7 +175,8 @@ public final class AbstractImporterTest {
         inOrder.verify(preparedStatement).setObject(3, "UPDATE");
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 10);
-        inOrder.verify(preparedStatement).execute();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
@@ -169,18 +193,21 @@ public final class AbstractImporterTest {
         return RecordUtil.extractConditionColumns(dataRecord, Sets.newHashSet("user"));
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new PlaceholderPosition()));
         return result;
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -42,6 +42,12 @@ public final class AbstractSqlBuilderTest {
         assertThat(actual, is("INSERT INTO `t1`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    public void assertBuildMultiValuesInsertSQL() {
+        String actual = scalingSqlBuilder.buildMultiValuesInsertSQL(mockDataRecord("t1"), 2);
+        assertThat(actual, is("INSERT INTO `t1`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
     @Test
     public void assertBuildUpdateSQLWithPrimaryKey() {
         String actual = scalingSqlBuilder.buildUpdateSQL(mockDataRecord("t2"), RecordUtil.extractPrimaryColumns(mockDataRecord("t2")));
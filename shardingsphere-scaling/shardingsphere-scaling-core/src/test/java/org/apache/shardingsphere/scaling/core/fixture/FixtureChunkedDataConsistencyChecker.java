@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.fixture;
+
+import com.google.common.collect.Maps;
+import lombok.Getter;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceWrapper;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.AbstractChunkedDataConsistencyChecker;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckProgress;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+public final class FixtureChunkedDataConsistencyChecker extends AbstractChunkedDataConsistencyChecker {
+    
+    private final Map<String, DataConsistencyCheckProgress> checkProgresses = new HashMap<>();
+    
+    private int persistedCount;
+    
+    public FixtureChunkedDataConsistencyChecker(final JobContext jobContext) {
+        super(jobContext);
+    }
+    
+    @Override
+    protected DataSourceWrapper getSourceDataSource() {
+        return getDataSourceFactory().newInstance(getJobContext().getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig());
+    }
+    
+    @Override
+    protected DataConsistencyCheckProgress loadCheckProgress(final String tableName) {
+        return checkProgresses.get(tableName);
+    }
+    
+    @Override
+    protected void persistCheckProgress(final String tableName, final DataConsistencyCheckProgress progress) {
+        checkProgresses.put(tableName, progress);
+        persistedCount++;
+    }
+    
+    @Override
+    protected void deleteCheckProgress(final String tableName) {
+        checkProgresses.remove(tableName);
+    }
+    
+    @Override
+    protected String buildChecksumSQL(final String tableName, final Collection<String> columns) {
+        return String.format("SELECT COUNT(*), COALESCE(SUM(LENGTH(CONCAT(%s))), 0) FROM %s", String.join(",", columns), tableName);
+    }
+    
+    @Override
+    protected String buildRangeChecksumSQL(final String tableName, final Collection<String> columns, final String primaryKey) {
+        return String.format("%s WHERE %s BETWEEN ? AND ?", buildChecksumSQL(tableName, columns), primaryKey);
+    }
+    
+    @Override
+    protected ScalingSQLBuilder getSqlBuilder() {
+        return new FixtureSQLBuilder(Maps.newHashMap());
+    }
+}
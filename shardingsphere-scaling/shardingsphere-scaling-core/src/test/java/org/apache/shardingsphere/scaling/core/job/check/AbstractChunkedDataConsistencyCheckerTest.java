@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.check;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.config.datasource.ScalingDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.fixture.FixtureChunkedDataConsistencyChecker;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckProgress;
+import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AbstractChunkedDataConsistencyCheckerTest {
+    
+    private JobContext jobContext;
+    
+    private FixtureChunkedDataConsistencyChecker dataConsistencyChecker;
+    
+    @Before
+    public void setUp() {
+        jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        dataConsistencyChecker = new FixtureChunkedDataConsistencyChecker(jobContext);
+    }
+    
+    @Test
+    public void assertDataCheckWithConsistentData() {
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig(), "yyy");
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(), "yyy");
+        Map<String, Boolean> actual = dataConsistencyChecker.dataCheck();
+        assertTrue(actual.get("t_order"));
+        assertTrue(dataConsistencyChecker.getPersistedCount() > 0);
+        assertTrue(dataConsistencyChecker.getCheckProgresses().isEmpty());
+    }
+    
+    @Test
+    public void assertDataCheckWithInconsistentData() {
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig(), "yyy");
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(), "yyyy");
+        Map<String, Boolean> actual = dataConsistencyChecker.dataCheck();
+        assertThat(actual.size(), is(1));
+        assertFalse(actual.get("t_order"));
+    }
+    
+    @Test
+    public void assertDataCheckResumeFromProgress() {
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig(), "yyy");
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(), "yyyy");
+        dataConsistencyChecker.getCheckProgresses().put("t_order", new DataConsistencyCheckProgress(999L, true));
+        assertTrue(dataConsistencyChecker.dataCheck().get("t_order"));
+    }
+    
+    @Test
+    public void assertDataCheckResumeFromInvalidProgress() {
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig(), "yyy");
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(), "yyy");
+        dataConsistencyChecker.getCheckProgresses().put("t_order", new DataConsistencyCheckProgress(1L, false));
+        assertFalse(dataConsistencyChecker.dataCheck().get("t_order"));
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void initTableData(final ScalingDataSourceConfiguration dataSourceConfig, final String lastUserId) {
+        DataSource dataSource = new DataSourceManager().getDataSource(dataSourceConfig);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (1, 'xxx'), (999, '%s')", lastUserId));
+        }
+    }
+}
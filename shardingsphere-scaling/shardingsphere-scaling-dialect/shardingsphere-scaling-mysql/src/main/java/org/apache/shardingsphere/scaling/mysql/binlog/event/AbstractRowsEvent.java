@@ -27,6 +27,8 @@ import lombok.Setter;
 @Setter
 public abstract class AbstractRowsEvent extends AbstractBinlogEvent {
     
+    private long tableId;
+    
     private String schemaName;
     
     private String tableName;
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.scaling.mysql.component;
 
 import com.google.common.base.Preconditions;
 import com.zaxxer.hikari.HikariConfig;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
@@ -52,6 +54,7 @@ import org.apache.shardingsphere.scaling.mysql.component.column.value.ValueHandl
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -66,6 +69,8 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
     
     private static final Map<String, ValueHandler> VALUE_HANDLER_MAP;
     
+    private static final long STATISTICS_INTERVAL_MILLIS = 60 * 1000L;
+    
     private final BinlogPosition binlogPosition;
     
     private final DumperConfiguration dumperConfig;
@@ -74,6 +79,12 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
     
     private final Random random = new SecureRandom();
     
+    private final Map<Long, TableDecodingPlan> decodingPlans = new HashMap<>();
+    
+    private long handledEventCount;
+    
+    private long statisticsBeginMillis = System.currentTimeMillis();
+    
     @Setter
     private Channel channel;
     
@@ -106,6 +117,7 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
             AbstractBinlogEvent event = client.poll();
             if (null != event) {
                 handleEvent(uri, event);
+                recordStatistics(event);
             }
         }
         pushRecord(new FinishedRecord(new PlaceholderPosition()));
@@ -116,12 +128,13 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
             createPlaceholderRecord(event);
             return;
         }
+        TableDecodingPlan decodingPlan = getDecodingPlan((AbstractRowsEvent) event);
         if (event instanceof WriteRowsEvent) {
-            handleWriteRowsEvent((WriteRowsEvent) event);
+            handleWriteRowsEvent((WriteRowsEvent) event, decodingPlan);
         } else if (event instanceof UpdateRowsEvent) {
-            handleUpdateRowsEvent((UpdateRowsEvent) event);
+            handleUpdateRowsEvent((UpdateRowsEvent) event, decodingPlan);
         } else if (event instanceof DeleteRowsEvent) {
-            handleDeleteRowsEvent((DeleteRowsEvent) event);
+            handleDeleteRowsEvent((DeleteRowsEvent) event, decodingPlan);
         }
     }
     
@@ -129,64 +142,79 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
         return !event.getSchemaName().equals(database) || !dumperConfig.getTableNameMap().containsKey(event.getTableName());
     }
     
-    private void handleWriteRowsEvent(final WriteRowsEvent event) {
-        List<MySQLColumnMetaData> tableMetaData = columnMetaDataLoader.load(event.getTableName());
+    private TableDecodingPlan getDecodingPlan(final AbstractRowsEvent event) {
+        TableDecodingPlan result = decodingPlans.get(event.getTableId());
+        if (null != result) {
+            return result;
+        }
+        if (decodingPlans.values().removeIf(each -> each.getActualTableName().equals(event.getTableName()))) {
+            log.info("Table map of {} changed, reload column meta data.", event.getTableName());
+            columnMetaDataLoader.invalidate(event.getTableName());
+        }
+        result = new TableDecodingPlan(event.getTableName(), dumperConfig.getTableNameMap().get(event.getTableName()), columnMetaDataLoader.load(event.getTableName()));
+        decodingPlans.put(event.getTableId(), result);
+        return result;
+    }
+    
+    private void handleWriteRowsEvent(final WriteRowsEvent event, final TableDecodingPlan decodingPlan) {
         for (Serializable[] each : event.getAfterRows()) {
-            DataRecord record = createDataRecord(event, each.length);
+            DataRecord record = createDataRecord(event, decodingPlan, each.length);
             record.setType(ScalingConstant.INSERT);
             for (int i = 0; i < each.length; i++) {
-                record.addColumn(new Column(tableMetaData.get(i).getName(), handleValue(tableMetaData.get(i), each[i]), true, tableMetaData.get(i).isPrimaryKey()));
+                record.addColumn(new Column(decodingPlan.getColumnName(i), decodingPlan.handleValue(i, each[i]), true, decodingPlan.isPrimaryKey(i)));
             }
             pushRecord(record);
         }
     }
     
-    private void handleUpdateRowsEvent(final UpdateRowsEvent event) {
-        List<MySQLColumnMetaData> tableMetaData = columnMetaDataLoader.load(event.getTableName());
+    private void handleUpdateRowsEvent(final UpdateRowsEvent event, final TableDecodingPlan decodingPlan) {
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
-            DataRecord record = createDataRecord(event, beforeValues.length);
+            DataRecord record = createDataRecord(event, decodingPlan, beforeValues.length);
             record.setType(ScalingConstant.UPDATE);
             for (int j = 0; j < beforeValues.length; j++) {
                 Serializable oldValue = beforeValues[j];
                 Serializable newValue = afterValues[j];
                 boolean updated = !Objects.equals(newValue, oldValue);
-                record.addColumn(new Column(tableMetaData.get(j).getName(),
-                        (tableMetaData.get(j).isPrimaryKey() && updated) ? handleValue(tableMetaData.get(j), oldValue) : null,
-                        handleValue(tableMetaData.get(j), newValue), updated, tableMetaData.get(j).isPrimaryKey()));
+                record.addColumn(new Column(decodingPlan.getColumnName(j),
+                        (decodingPlan.isPrimaryKey(j) && updated) ? decodingPlan.handleValue(j, oldValue) : null,
+                        decodingPlan.handleValue(j, newValue), updated, decodingPlan.isPrimaryKey(j)));
             }
             pushRecord(record);
         }
     }
     
-    private void handleDeleteRowsEvent(final DeleteRowsEvent event) {
-        List<MySQLColumnMetaData> tableMetaData = columnMetaDataLoader.load(event.getTableName());
+    private void handleDeleteRowsEvent(final DeleteRowsEvent event, final TableDecodingPlan decodingPlan) {
         for (Serializable[] each : event.getBeforeRows()) {
-            DataRecord record = createDataRecord(event, each.length);
+            DataRecord record = createDataRecord(event, decodingPlan, each.length);
             record.setType(ScalingConstant.DELETE);
             for (int i = 0; i < each.length; i++) {
-                record.addColumn(new Column(tableMetaData.get(i).getName(), handleValue(tableMetaData.get(i), each[i]), true, tableMetaData.get(i).isPrimaryKey()));
+                record.addColumn(new Column(decodingPlan.getColumnName(i), decodingPlan.handleValue(i, each[i]), true, decodingPlan.isPrimaryKey(i)));
             }
             pushRecord(record);
         }
     }
     
-    private Serializable handleValue(final MySQLColumnMetaData columnMetaData, final Serializable value) {
-        ValueHandler valueHandler = VALUE_HANDLER_MAP.get(columnMetaData.getDataTypeName());
-        if (null != valueHandler) {
-            return valueHandler.handle(value);
-        }
-        return value;
-    }
-    
-    private DataRecord createDataRecord(final AbstractRowsEvent rowsEvent, final int columnCount) {
+    private DataRecord createDataRecord(final AbstractRowsEvent rowsEvent, final TableDecodingPlan decodingPlan, final int columnCount) {
         DataRecord result = new DataRecord(new BinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition(), rowsEvent.getServerId()), columnCount);
-        result.setTableName(dumperConfig.getTableNameMap().get(rowsEvent.getTableName()));
+        result.setTableName(decodingPlan.getLogicTableName());
         result.setCommitTime(rowsEvent.getTimestamp() * 1000);
         return result;
     }
     
+    private void recordStatistics(final AbstractBinlogEvent event) {
+        handledEventCount++;
+        long currentMillis = System.currentTimeMillis();
+        if (currentMillis - statisticsBeginMillis < STATISTICS_INTERVAL_MILLIS) {
+            return;
+        }
+        log.info("MySQL incremental dumper handled {} events per second, decode lag {} ms.",
+                handledEventCount * 1000 / (currentMillis - statisticsBeginMillis), currentMillis - event.getTimestamp() * 1000);
+        handledEventCount = 0;
+        statisticsBeginMillis = currentMillis;
+    }
+    
     private void createPlaceholderRecord(final AbstractBinlogEvent event) {
         PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
         record.setCommitTime(event.getTimestamp() * 1000);
@@ -199,4 +227,49 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
         } catch (final InterruptedException ignored) {
         }
     }
+    
+    @Getter
+    private static final class TableDecodingPlan {
+        
+        private final String actualTableName;
+        
+        private final String logicTableName;
+        
+        @Getter(AccessLevel.NONE)
+        private final String[] columnNames;
+        
+        @Getter(AccessLevel.NONE)
+        private final boolean[] primaryKeys;
+        
+        @Getter(AccessLevel.NONE)
+        private final ValueHandler[] valueHandlers;
+        
+        TableDecodingPlan(final String actualTableName, final String logicTableName, final List<MySQLColumnMetaData> columnMetaDataList) {
+            this.actualTableName = actualTableName;
+            this.logicTableName = logicTableName;
+            int columnCount = columnMetaDataList.size();
+            columnNames = new String[columnCount];
+            primaryKeys = new boolean[columnCount];
+            valueHandlers = new ValueHandler[columnCount];
+            int index = 0;
+            for (MySQLColumnMetaData each : columnMetaDataList) {
+                columnNames[index] = each.getName();
+                primaryKeys[index] = each.isPrimaryKey();
+                valueHandlers[index] = VALUE_HANDLER_MAP.get(each.getDataTypeName());
+                index++;
+            }
+        }
+        
+        String getColumnName(final int index) {
+            return columnNames[index];
+        }
+        
+        boolean isPrimaryKey(final int index) {
+            return primaryKeys[index];
+        }
+        
+        Serializable handleValue(final int index, final Serializable value) {
+            return null == valueHandlers[index] ? value : valueHandlers[index].handle(value);
+        }
+    }
 }
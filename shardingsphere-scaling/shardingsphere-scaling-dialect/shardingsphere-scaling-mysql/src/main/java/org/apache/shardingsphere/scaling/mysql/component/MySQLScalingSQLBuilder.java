@@ -21,8 +21,10 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL SQL builder.
@@ -44,11 +46,7 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildDuplicateUpdateSQL(dataRecord);
-    }
-    
-    private String buildDuplicateUpdateSQL(final DataRecord dataRecord) {
+    protected String buildInsertSQLSuffix(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
         for (int i = 0; i < dataRecord.getColumnCount(); i++) {
             Column column = dataRecord.getColumn(i);
@@ -77,4 +75,31 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
     public String buildSumCrc32SQL(final String tableName, final String column) {
         return String.format("SELECT SUM(CRC32(%s)) from %s", quote(column), quote(tableName));
     }
+    
+    /**
+     * Build row checksum SQL of whole table.
+     *
+     * @param tableName table name
+     * @param columns column names
+     * @return row checksum SQL
+     */
+    public String buildChecksumSQL(final String tableName, final Collection<String> columns) {
+        return String.format("SELECT COUNT(*), COALESCE(SUM(CRC32(%s)), 0) FROM %s", buildRowLiteral(columns), quote(tableName));
+    }
+    
+    /**
+     * Build row checksum SQL of primary key range.
+     *
+     * @param tableName table name
+     * @param columns column names
+     * @param primaryKey primary key
+     * @return row checksum SQL
+     */
+    public String buildRangeChecksumSQL(final String tableName, final Collection<String> columns, final String primaryKey) {
+        return String.format("%s WHERE %s BETWEEN ? AND ?", buildChecksumSQL(tableName, columns), quote(primaryKey));
+    }
+    
+    private String buildRowLiteral(final Collection<String> columns) {
+        return columns.stream().map(each -> String.format("%s,ISNULL(%s)", quote(each), quote(each))).collect(Collectors.joining(",", "CONCAT_WS('#',", ")"));
+    }
 }
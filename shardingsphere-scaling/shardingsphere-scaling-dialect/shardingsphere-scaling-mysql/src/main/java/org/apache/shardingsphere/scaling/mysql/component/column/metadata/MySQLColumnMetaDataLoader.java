@@ -65,6 +65,15 @@ public final class MySQLColumnMetaDataLoader {
         return columnMetaDataMap.get(tableNamePattern);
     }
     
+    /**
+     * Invalidate cached column meta data list, which should be called after table structure changed.
+     *
+     * @param tableNamePattern table name pattern
+     */
+    public void invalidate(final String tableNamePattern) {
+        columnMetaDataMap.remove(tableNamePattern);
+    }
+    
     private List<MySQLColumnMetaData> load0(final Connection connection, final String tableNamePattern) throws SQLException {
         List<MySQLColumnMetaData> result = new LinkedList<>();
         Collection<String> primaryKeys = loadPrimaryKeys(connection, tableNamePattern);
@@ -140,6 +140,32 @@ public final class MySQLIncrementalDumperTest {
         assertThat(((DataRecord) records.get(0)).getType(), is(ScalingConstant.DELETE));
     }
     
+    @Test
+    public void assertReloadColumnMetaDataWhenTableMapChanged() throws SQLException {
+        invokeHandleEvent(new JdbcUri(URL), mockWriteRowsEvent(1L, new String[]{"1", "order"}));
+        DataSource dataSource = new DataSourceManager().getDataSource(mockDumperConfiguration().getDataSourceConfig());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE t_order ADD COLUMN status VARCHAR(12)");
+        }
+        invokeHandleEvent(new JdbcUri(URL), mockWriteRowsEvent(2L, new String[]{"2", "order", "OK"}));
+        List<Record> records = channel.fetchRecords(2, 0);
+        assertThat(records.size(), is(2));
+        assertThat(((DataRecord) records.get(0)).getColumnCount(), is(2));
+        assertThat(((DataRecord) records.get(1)).getColumn(2).getName(), is("status"));
+    }
+    
+    private WriteRowsEvent mockWriteRowsEvent(final long tableId, final String[] row) {
+        WriteRowsEvent result = new WriteRowsEvent();
+        result.setTableId(tableId);
+        result.setSchemaName("");
+        result.setTableName("t_order");
+        List<Serializable[]> rows = new ArrayList<>(1);
+        rows.add(row);
+        result.setAfterRows(rows);
+        return result;
+    }
+    
     @Test
     public void assertPlaceholderEvent() {
         invokeHandleEvent(new JdbcUri("jdbc:mysql://127.0.0.1:3306/test_db"), new PlaceholderEvent());
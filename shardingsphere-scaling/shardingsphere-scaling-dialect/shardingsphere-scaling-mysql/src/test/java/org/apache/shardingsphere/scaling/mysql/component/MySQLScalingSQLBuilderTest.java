@@ -24,6 +24,7 @@ import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -45,12 +46,24 @@ public final class MySQLScalingSQLBuilderTest {
         assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
     }
     
+    @Test
+    public void assertBuildMultiValuesInsertSQL() {
+        String actual = sqlBuilder.buildMultiValuesInsertSQL(mockDataRecord("t2"), 2);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
         String actual = sqlBuilder.buildSumCrc32SQL("t2", "id");
         assertThat(actual, is("SELECT SUM(CRC32(`id`)) from `t2`"));
     }
     
+    @Test
+    public void assertBuildRangeChecksumSQL() {
+        String actual = sqlBuilder.buildRangeChecksumSQL("t2", Arrays.asList("id", "c1"), "id");
+        assertThat(actual, is("SELECT COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS('#',`id`,ISNULL(`id`),`c1`,ISNULL(`c1`)))), 0) FROM `t2` WHERE `id` BETWEEN ? AND ?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -45,11 +45,7 @@ public final class PostgreSQLScalingSQLBuilder extends AbstractScalingSQLBuilder
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
-    }
-    
-    private String buildConflictSQL(final DataRecord dataRecord) {
+    protected String buildInsertSQLSuffix(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
         for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
             result.append(each.getName()).append(",");
@@ -18,21 +18,32 @@
 package org.apache.shardingsphere.scaling.postgresql.component;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.common.channel.Channel;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public final class PostgreSQLJdbcDumperTest {
     
@@ -74,6 +85,25 @@ public final class PostgreSQLJdbcDumperTest {
         }
     }
     
+    @Test
+    public void assertDumpByPrimaryKeyWithKeysetPagination() throws InterruptedException {
+        InventoryDumperConfiguration inventoryDumperConfig = mockInventoryDumperConfiguration();
+        inventoryDumperConfig.setTableNameMap(Collections.singletonMap("t_order", "t_order"));
+        inventoryDumperConfig.setPrimaryKey("id");
+        inventoryDumperConfig.setPosition(new PrimaryKeyPosition(0, 1000));
+        inventoryDumperConfig.setBatchSize(1);
+        PostgreSQLInventoryDumper dumper = new PostgreSQLInventoryDumper(inventoryDumperConfig, dataSourceManager);
+        Channel channel = mock(Channel.class);
+        dumper.setChannel(channel);
+        dumper.start();
+        ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(channel, times(4)).pushRecord(recordCaptor.capture());
+        List<Record> actual = recordCaptor.getAllValues();
+        assertThat(((PrimaryKeyPosition) actual.get(0).getPosition()).getBeginValue(), is(1L));
+        assertThat(((PrimaryKeyPosition) actual.get(1).getPosition()).getBeginValue(), is(999L));
+        assertThat(actual.get(2).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
     private DumperConfiguration mockDumperConfiguration() {
         DumperConfiguration result = new DumperConfiguration();
         result.setDataSourceConfig(new StandardJDBCDataSourceConfiguration("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=PostgreSQL", "root", "root"));
@@ -42,8 +42,8 @@ public final class CheckScalingJobQueryResultSet implements DistSQLResultSet {
                 .map(each -> {
                     Collection<Object> list = new LinkedList<>();
                     list.add(each.getKey());
-                    list.add(each.getValue().getTargetCount());
                     list.add(each.getValue().getSourceCount());
+                    list.add(each.getValue().getTargetCount());
                     list.add(each.getValue().isCountValid() ? 1 : 0);
                     list.add(each.getValue().isDataValid() ? 1 : 0);
                     return list;